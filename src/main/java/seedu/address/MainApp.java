@@ -23,8 +23,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LogStructuredAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,8 +61,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.isSavingInBackground());
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,6 +71,25 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file at {@code filePath}, in the layout chosen by
+     * {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        switch (config.getStorageLayout()) {
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case JOURNALED:
+            return new JournaledAddressBookStorage(filePath);
+        case LOG_STRUCTURED:
+            return new LogStructuredAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath, config.getJsonEncoding());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -183,5 +206,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
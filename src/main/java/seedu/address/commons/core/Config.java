@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.JsonEncoding;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isSavingInBackground = false;
+    private StorageLayout storageLayout = StorageLayout.JSON;
+    private JsonEncoding jsonEncoding = JsonEncoding.PRETTY;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how the address book is laid out on disk around the data file.
+     */
+    public StorageLayout getStorageLayout() {
+        return storageLayout;
+    }
+
+    public void setStorageLayout(StorageLayout storageLayout) {
+        this.storageLayout = storageLayout;
+    }
+
+    /**
+     * Returns how the json data file is encoded when saved. Files in any encoding can be read.
+     */
+    public JsonEncoding getJsonEncoding() {
+        return jsonEncoding;
+    }
+
+    public void setJsonEncoding(JsonEncoding jsonEncoding) {
+        this.jsonEncoding = jsonEncoding;
+    }
+
+    /**
+     * Returns true if the address book is saved on a background thread, so commands do not wait for the disk.
+     */
+    public boolean isSavingInBackground() {
+        return isSavingInBackground;
+    }
+
+    public void setSavingInBackground(boolean isSavingInBackground) {
+        this.isSavingInBackground = isSavingInBackground;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +84,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && storageLayout == otherConfig.storageLayout
+                && jsonEncoding == otherConfig.jsonEncoding
+                && isSavingInBackground == otherConfig.isSavingInBackground;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageLayout, jsonEncoding, isSavingInBackground);
     }
 
     @Override
@@ -60,6 +100,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageLayout", storageLayout)
+                .add("jsonEncoding", jsonEncoding)
+                .add("isSavingInBackground", isSavingInBackground)
                 .toString();
     }
 
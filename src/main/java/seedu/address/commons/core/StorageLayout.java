@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * The ways the address book can be laid out on disk, around the data file named in the user prefs.
+ */
+public enum StorageLayout {
+    /** All weddings in the json data file, rewritten after every command. */
+    JSON,
+    /** Each wedding in its own data file, listed in a manifest at the data file. */
+    SHARDED,
+    /** The json data file, with changes since it was last written appended to a journal next to it. */
+    JOURNALED,
+    /** A log-structured store next to the data file, with one append-only log of guests per wedding. */
+    LOG_STRUCTURED,
+    /** A compact binary snapshot next to the data file, instead of the json data file itself. */
+    BINARY
+}
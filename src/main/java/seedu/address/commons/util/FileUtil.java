@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Writes and reads files
@@ -12,6 +19,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** One lock per file written atomically, so that writers of the same file take turns with its temporary file. */
+    private static final ConcurrentMap<Path, Object> ATOMIC_WRITE_LOCKS = new ConcurrentHashMap<>();
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +91,67 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the remaining bytes of {@code contents}, in order, to a file without ever leaving it half-written.
+     * The contents are written with one gathering write to a temporary file next to it, which is forced to disk and
+     * then moved over the file in one atomic step where the file system supports it. The directory is then forced
+     * too, where the platform allows it, so that the move itself survives a power loss. The temporary file is
+     * deleted if the write fails.
+     * <p>
+     * Each file has one temporary file, named after it. A temporary file left behind by a crash is overwritten by the
+     * next write, so they do not pile up. Writers of the same file in this process take turns.
+     */
+    public static void writeToFileAtomically(Path file, ByteBuffer... contents) throws IOException {
+        Object lock = ATOMIC_WRITE_LOCKS.computeIfAbsent(file.toAbsolutePath().normalize(), path -> new Object());
+        synchronized (lock) {
+            writeThroughTempFile(file, contents);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void writeThroughTempFile(Path file, ByteBuffer... contents) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long remaining = 0;
+                for (ByteBuffer buffer : contents) {
+                    remaining += buffer.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= channel.write(contents);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to disk.
+     * Does nothing on platforms that cannot open a directory for this, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // The directory cannot be forced here, so the move is as durable as the platform makes it
+        }
+    }
+
 }
@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The ways a JSON data file can be encoded on disk.
+ */
+public enum JsonEncoding {
+    /** Indented JSON, one field per line. */
+    PRETTY,
+    /** JSON without any whitespace. */
+    COMPACT,
+    /** Compact JSON compressed in the gzip format. */
+    GZIP;
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
+    /**
+     * Returns true if this encoding writes whitespace to make the JSON easy to read.
+     */
+    public boolean isPretty() {
+        return this == PRETTY;
+    }
+
+    /**
+     * Returns a stream of the JSON held in {@code in}, in any of these encodings.
+     * Gzip-compressed JSON is told apart from plain JSON by the magic number every gzip file starts with.
+     */
+    public static InputStream decode(InputStream in) throws IOException {
+        requireNonNull(in);
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        boolean isGzip = buffered.read() == GZIP_MAGIC_FIRST_BYTE && buffered.read() == GZIP_MAGIC_SECOND_BYTE;
+        buffered.reset();
+        return isGzip ? new GZIPInputStream(buffered) : buffered;
+    }
+}
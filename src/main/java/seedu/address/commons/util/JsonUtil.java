@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +115,43 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads JSON from {@code in} one token at a time.
+     * Objects can be read from it with {@link JsonParser#readValueAs(Class)}, using the same settings as
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON to {@code out} as it is produced.
+     * Objects can be written to it with {@link JsonGenerator#writeObject(Object)}, using the same settings as
+     * {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return createGenerator(out, true);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(OutputStream)}, but the JSON is only pretty-printed if {@code isPretty}.
+     * Otherwise it is written without any whitespace, as by {@link #toCompactJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPretty) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        return isPretty ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
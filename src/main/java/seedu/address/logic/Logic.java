@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
@@ -55,4 +56,16 @@ public interface Logic {
     /** Returns the wedding name property for binding */
     ReadOnlyStringProperty weddingNameProperty();
 
+    /**
+     * Returns the ID of the table {@code person} is seated at in the current wedding,
+     * or {@code SeatingPlan.UNSEATED} if they have no seat or there is no current wedding.
+     */
+    int getTableIdOf(Person person);
+
+    /**
+     * Sets the handler told, with a message for the user, of each save of the address book that failed after the
+     * command that made the changes had returned. The handler may be called on a thread other than the UI thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
 }
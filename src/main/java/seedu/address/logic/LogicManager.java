@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyStringProperty;
@@ -33,6 +36,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Stands for no version of the address book, so that the next command saves. */
+    private static final long NO_SAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -40,6 +46,13 @@ public class LogicManager implements Logic {
     private final AddressBookParser addressBookParser;
     private final StringProperty weddingNameProperty = new SimpleStringProperty("");
 
+    /**
+     * Version of the address book last handed over for saving. Nothing is saved yet, so the first command always
+     * saves. A save that fails later resets this, from the thread the save failed on, so the next command saves again.
+     */
+    private volatile long savedAddressBookVersion = NO_SAVED_VERSION;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -47,6 +60,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
 
         // Initialize wedding name if available
         updateWeddingNameProperty();
@@ -67,13 +81,16 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            return commandResult;
+        }
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(toSaveFailureMessage(ioe), ioe);
         }
+        savedAddressBookVersion = addressBookVersion;
 
         return commandResult;
     }
@@ -113,6 +130,33 @@ public class LogicManager implements Logic {
         return weddingNameProperty;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public int getTableIdOf(Person person) {
+        return model.getTableIdOf(person);
+    }
+
+    /**
+     * Handles a save that failed after the command that handed it over had returned.
+     * The next command saves again, and the user is told of the failure.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookVersion = NO_SAVED_VERSION;
+        saveFailureHandler.accept(toSaveFailureMessage(ioe));
+    }
+
+    private static String toSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     /**
      * Updates the wedding name property based on the current wedding in the model
      */
@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.person.Person;
+import seedu.address.model.wedding.SeatingPlan;
 
 /**
  * Container for user visible messages.
@@ -45,8 +46,24 @@ public class Messages {
      * Formats the {@code person} for display to the user.
      */
     public static String format(Person person) {
-        final StringBuilder builder = new StringBuilder();
-        builder.append("Name: ")
+        final StringBuilder builder = appendDetails(new StringBuilder(), person);
+        person.getTags().forEach(builder::append);
+        return builder.toString();
+    }
+
+    /**
+     * Formats the {@code person}, seated at the table with ID {@code tableId}, for display to the user.
+     */
+    public static String format(Person person, int tableId) {
+        final StringBuilder builder = appendDetails(new StringBuilder(), person)
+                .append("; Table: ")
+                .append(SeatingPlan.toTableIdString(tableId));
+        person.getTags().forEach(builder::append);
+        return builder.toString();
+    }
+
+    private static StringBuilder appendDetails(StringBuilder builder, Person person) {
+        return builder.append("Name: ")
                 .append(person.getName())
                 .append("; Phone: ")
                 .append(person.getPhone())
@@ -59,11 +76,7 @@ public class Messages {
                 .append("; Dietary Restriction: ")
                 .append(person.getDietaryRestriction())
                 .append("; RSVP: ")
-                .append(person.getRsvp())
-                .append("; Table: ")
-                .append(person.getTableIdString());
-        person.getTags().forEach(builder::append);
-        return builder.toString();
+                .append(person.getRsvp());
     }
 
 }
@@ -85,7 +85,8 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS,
+                Messages.format(editedPerson, model.getTableIdOf(editedPerson))));
     }
 
     /**
@@ -104,9 +105,8 @@ public class EditCommand extends Command {
                 .orElse(personToEdit.getDietaryRestriction());
 
         Rsvp updatedRsvp = editPersonDescriptor.getRsvp().orElse(personToEdit.getRsvp());
-        int updatedTableId = personToEdit.getTableId();
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags,
-                updatedDietaryRestriction, updatedRsvp, updatedTableId);
+                updatedDietaryRestriction, updatedRsvp);
     }
 
     @Override
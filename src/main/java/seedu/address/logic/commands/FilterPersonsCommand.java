@@ -14,6 +14,7 @@ import seedu.address.model.person.DietaryRestrictionFilter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Rsvp.Status;
 import seedu.address.model.person.RsvpFilter;
+import seedu.address.model.wedding.Wedding;
 
 /**
  * Command to filter guests based on dietary restrictions or RSVP status or None.
@@ -28,8 +29,8 @@ public class FilterPersonsCommand extends Command {
             + " r/" + Status.values()[0].toString();
 
     public static final String MESSAGE_SUCCESS = "Here are the people matching your filter.";
-    final Predicate<Person> dietaryRestrictionFilter;
-    final Predicate<Person> rsvpFilter;
+    final DietaryRestrictionFilter dietaryRestrictionFilter;
+    final RsvpFilter rsvpFilter;
     final Predicate<Person> combinedPredicate;
 
     /**
@@ -58,11 +59,27 @@ public class FilterPersonsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(combinedPredicate);
+        if (model.hasCurrentWedding()) {
+            model.updateFilteredPersonList(getIndexedPredicate(model.getCurrentWedding()));
+        } else {
+            model.updateFilteredPersonList(combinedPredicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns a predicate equivalent to {@code combinedPredicate} that is answered from the bitmap index of the
+     * wedding's guest list instead of by comparing each guest's details.
+     */
+    private Predicate<Person> getIndexedPredicate(Wedding wedding) {
+        TypicalRestriction restriction = dietaryRestrictionFilter == null
+                ? null
+                : dietaryRestrictionFilter.getDietaryRestriction().getTypicalRestriction();
+        Status status = rsvpFilter == null ? null : rsvpFilter.getRsvp().getStatus();
+        return wedding.getUniquePersonList().getBitmapIndex().matching(restriction, status);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -29,7 +29,13 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (model.hasCurrentWedding()) {
+            // Answer the search from the guest list's name-word postings rather than splitting every name
+            model.updateFilteredPersonList(model.getCurrentWedding().getUniquePersonList().getBitmapIndex()
+                    .matchingNameContainingAny(predicate.getKeywords(), predicate));
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -49,7 +49,7 @@ public class GetAllTablesCommand extends Command {
                 // safety check
             }
             result.append(String.format("Table ID: %d | Capacity: %d | Guests: %d%n",
-                    table.getTableId(), table.getCapacity(), table.getAllPersons().size()));
+                    table.getTableId(), table.getCapacity(), table.getSize()));
         }
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, result.toString().trim()));
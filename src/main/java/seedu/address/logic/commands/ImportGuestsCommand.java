@@ -0,0 +1,335 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_NO_CURRENT_WEDDING;
+import static seedu.address.logic.Messages.MESSAGE_TABLE_FULL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.SeatingPlan;
+
+/**
+ * Adds the guests listed in a CSV file to the current wedding.
+ * <p>
+ * The file is streamed, and its lines are validated in parallel as they are read. Every invalid line is reported by
+ * its line number. Guests are only added if the whole file is valid, and then all at once, so the guest list changes
+ * once and the address book is saved once however many guests the file holds.
+ * </p>
+ */
+public class ImportGuestsCommand extends Command {
+
+    public static final String COMMAND_WORD = "importGuests";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the guests listed in a CSV file to the current "
+        + "wedding.\n"
+        + "Each line of the file holds: NAME,PHONE,EMAIL,ADDRESS,TAGS,DIETARY_RESTRICTION,RSVP,TABLE_ID\n"
+        + "Tags are separated by spaces, and TAGS and TABLE_ID may be left empty. Fields holding commas must be in "
+        + "double quotes. A first line starting with 'name' is skipped as a header.\n"
+        + "Parameters: FILE_PATH\n"
+        + "Example: " + COMMAND_WORD + " data/guests.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d guests from %2$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINES = "No guests were imported, as %1$d lines of %2$s are invalid:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the wedding";
+    public static final String MESSAGE_DUPLICATE_LINE = "This person is already on line %1$d";
+    public static final String MESSAGE_TABLE_NOT_FOUND = "Table with ID %d does not exist.";
+
+    /** Number of invalid lines listed in the result before the rest are only counted. */
+    public static final int MAX_LINE_ERRORS_SHOWN = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportGuestsCommand.class);
+
+    private static final int FIELD_COUNT = 8;
+    private static final String HEADER_FIRST_FIELD = "name";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final int LINES_PER_CHUNK = 512;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportGuestsCommand to add the guests listed in the CSV file at {@code filePath}.
+     */
+    public ImportGuestsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasCurrentWedding()) {
+            throw new CommandException(MESSAGE_NO_CURRENT_WEDDING);
+        }
+
+        List<Row> rows = readRows();
+        checkAgainstModel(rows, model);
+        List<String> errors = rows.stream()
+                .filter(row -> row.error != null)
+                .map(row -> String.format(MESSAGE_LINE_ERROR, row.lineNumber, row.error))
+                .collect(Collectors.toList());
+        if (!errors.isEmpty()) {
+            throw new CommandException(describeErrors(errors));
+        }
+
+        List<Person> guests = new ArrayList<>(rows.size());
+        int[] tableIds = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            guests.add(rows.get(i).person);
+            tableIds[i] = rows.get(i).tableId;
+        }
+        model.addPersons(guests, tableIds);
+        logger.info("Imported " + guests.size() + " guests from " + filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, guests.size(), filePath));
+    }
+
+    /**
+     * Returns the rows of the file, in order, skipping the header and blank lines.
+     * Lines are read one at a time, and every {@link #LINES_PER_CHUNK} of them are handed to the common pool to be
+     * parsed while the next ones are read, so the text of the file is never held in memory all at once.
+     */
+    private List<Row> readRows() throws CommandException {
+        List<ForkJoinTask<List<Row>>> chunks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(LINES_PER_CHUNK);
+            int chunkFirstLineNumber = 1;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    line = stripByteOrderMark(line);
+                    if (isHeader(line)) {
+                        chunkFirstLineNumber = 2;
+                        continue;
+                    }
+                }
+                chunk.add(line);
+                if (chunk.size() == LINES_PER_CHUNK) {
+                    chunks.add(parseChunk(chunkFirstLineNumber, chunk));
+                    chunk = new ArrayList<>(LINES_PER_CHUNK);
+                    chunkFirstLineNumber = lineNumber + 1;
+                }
+            }
+            chunks.add(parseChunk(chunkFirstLineNumber, chunk));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe), ioe);
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (ForkJoinTask<List<Row>> chunk : chunks) {
+            rows.addAll(chunk.join());
+        }
+        return rows;
+    }
+
+    /**
+     * Starts parsing {@code lines}, the first of which is line {@code firstLineNumber} of the file, in the common pool.
+     */
+    private static ForkJoinTask<List<Row>> parseChunk(int firstLineNumber, List<String> lines) {
+        return ForkJoinPool.commonPool().submit(() -> {
+            List<Row> rows = new ArrayList<>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                if (!lines.get(i).isBlank()) {
+                    rows.add(parseRow(firstLineNumber + i, lines.get(i)));
+                }
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Removes the byte order mark that some programs, such as spreadsheets, put at the start of a UTF-8 file.
+     */
+    private static String stripByteOrderMark(String firstLine) {
+        return firstLine.startsWith(BYTE_ORDER_MARK) ? firstLine.substring(BYTE_ORDER_MARK.length()) : firstLine;
+    }
+
+    private static boolean isHeader(String line) {
+        return line.stripLeading().regionMatches(true, 0, HEADER_FIRST_FIELD + ",", 0, HEADER_FIRST_FIELD.length() + 1);
+    }
+
+    /**
+     * Parses the guest on line {@code lineNumber}, with the same rules as {@link AddPersonCommand} and
+     * {@link AddPersonToTableCommand}. Only the line itself is checked, so that lines can be parsed in parallel.
+     */
+    private static Row parseRow(int lineNumber, String line) {
+        try {
+            List<String> fields = splitFields(line);
+            if (fields.size() != FIELD_COUNT) {
+                throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, FIELD_COUNT, fields.size()));
+            }
+            String tags = fields.get(4).trim();
+            Person person = new Person(
+                    ParserUtil.parseName(fields.get(0)),
+                    ParserUtil.parsePhone(fields.get(1)),
+                    ParserUtil.parseEmail(fields.get(2)),
+                    ParserUtil.parseAddress(fields.get(3)),
+                    ParserUtil.parseTags(tags.isEmpty() ? List.of() : Arrays.asList(tags.split("\\s+"))),
+                    ParserUtil.parseDietaryRestriction(fields.get(5)),
+                    ParserUtil.parseRsvp(fields.get(6)));
+            String tableId = fields.get(7).trim();
+            return new Row(lineNumber, person,
+                    tableId.isEmpty() ? SeatingPlan.UNSEATED : ParserUtil.parseTableId(tableId));
+        } catch (ParseException pe) {
+            return new Row(lineNumber, pe.getMessage());
+        }
+    }
+
+    /**
+     * Splits a line of CSV into its fields. A field in double quotes may hold commas, and two double quotes in a row
+     * for a double quote.
+     */
+    static List<String> splitFields(String line) throws ParseException {
+        List<String> fields = new ArrayList<>(FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Marks the rows whose guest is already in the current wedding or on an earlier row, or whose table is missing
+     * or has no seat left for them.
+     */
+    private static void checkAgainstModel(List<Row> rows, Model model) {
+        Map<String, Integer> lineNumbersByName = new HashMap<>();
+        Map<Integer, Integer> freeSeatsByTableId = new HashMap<>();
+        Set<Integer> missingTableIds = new HashSet<>();
+        for (Row row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            Integer earlierLineNumber = lineNumbersByName.putIfAbsent(row.person.getName().toKey(), row.lineNumber);
+            if (earlierLineNumber != null) {
+                row.error = String.format(MESSAGE_DUPLICATE_LINE, earlierLineNumber);
+            } else if (model.hasPerson(row.person)) {
+                row.error = MESSAGE_DUPLICATE_PERSON;
+            } else if (row.tableId != SeatingPlan.UNSEATED) {
+                if (missingTableIds.contains(row.tableId) || !model.hasTable(row.tableId)) {
+                    missingTableIds.add(row.tableId);
+                    row.error = String.format(MESSAGE_TABLE_NOT_FOUND, row.tableId);
+                    continue;
+                }
+                int freeSeats = freeSeatsByTableId.computeIfAbsent(row.tableId, id -> {
+                    Table table = model.findTableById(id);
+                    return table.getCapacity() - table.getSize();
+                });
+                if (freeSeats == 0) {
+                    row.error = String.format(MESSAGE_TABLE_FULL, row.tableId);
+                } else {
+                    freeSeatsByTableId.put(row.tableId, freeSeats - 1);
+                }
+            }
+        }
+    }
+
+    private String describeErrors(List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_LINES, errors.size(), filePath));
+        for (String error : errors.subList(0, Math.min(errors.size(), MAX_LINE_ERRORS_SHOWN))) {
+            message.append('\n').append(error);
+        }
+        if (errors.size() > MAX_LINE_ERRORS_SHOWN) {
+            message.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_LINE_ERRORS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportGuestsCommand)) {
+            return false;
+        }
+
+        ImportGuestsCommand otherImportGuestsCommand = (ImportGuestsCommand) other;
+        return filePath.equals(otherImportGuestsCommand.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("filePath", filePath)
+            .toString();
+    }
+
+    /**
+     * A line of the file, with the guest parsed from it or why it is invalid.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final Person person;
+        private final int tableId;
+        private String error;
+
+        Row(int lineNumber, Person person, int tableId) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.tableId = tableId;
+        }
+
+        Row(int lineNumber, String error) {
+            this(lineNumber, null, SeatingPlan.UNSEATED);
+            this.error = error;
+        }
+    }
+}
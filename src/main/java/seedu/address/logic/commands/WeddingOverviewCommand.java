@@ -4,8 +4,9 @@ import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Person;
-import seedu.address.model.table.UniqueTableList;
+import seedu.address.model.person.Rsvp;
 import seedu.address.model.wedding.Wedding;
 
 /**
@@ -21,8 +22,10 @@ public class WeddingOverviewCommand extends Command {
         Overview of %1$s's Wedding:
         Number of tables: %2$d
         Number of guests invited: %3$d
+        Number of guests without a table: %4$d
+        RSVP yes/no/no response: %5$d/%6$d/%7$d
         Person list:
-        %4$s
+        %8$s
         """;
 
     public static final String MESSAGE_NO_WEDDING = "No wedding is currently set.";
@@ -38,16 +41,9 @@ public class WeddingOverviewCommand extends Command {
             throw new CommandException(MESSAGE_NO_WEDDING);
         }
 
-        // ✅ Ensure TableList and RsvpList are properly initialized
-        UniqueTableList tableList = model.getCurrentWedding().getTableList();
-
-        if (tableList == null) {
-            tableList = new UniqueTableList();
-        }
-
-        int tableCount = tableList.asUnmodifiableObservableList().size();
+        int tableCount = wedding.getTableList().size();
+        GuestCounts guestCounts = wedding.getGuestCounts();
         List<Person> guests = model.getFilteredPersonList();
-        int guestCount = guests.size();
 
 
         StringBuilder guestListFormatted = new StringBuilder();
@@ -62,7 +58,11 @@ public class WeddingOverviewCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 wedding.getName(),
                 tableCount,
-                guestCount,
+                guestCounts.getTotal(),
+                wedding.getUnseatedCount(),
+                guestCounts.getCount(Rsvp.Status.YES),
+                guestCounts.getCount(Rsvp.Status.NO),
+                guestCounts.getCount(Rsvp.Status.NO_RESPONSE),
                 guestListFormatted.toString().trim()));
     }
 
@@ -60,7 +60,7 @@ public class AddCommandParser implements Parser<AddPersonCommand> {
         Rsvp rsvp = ParserUtil.parseRsvp(
             argMultimap.getValue(PREFIX_RSVP).get());
 
-        Person guest = new Person(name, phone, email, address, tagList, dietaryRestriction, rsvp, -1);
+        Person guest = new Person(name, phone, email, address, tagList, dietaryRestriction, rsvp);
 
         return new AddPersonCommand(guest);
     }
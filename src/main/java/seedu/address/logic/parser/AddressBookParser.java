@@ -25,6 +25,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindTableCommand;
 import seedu.address.logic.commands.GetAllTablesCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportGuestsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SetWeddingCommand;
 import seedu.address.logic.commands.WeddingOverviewCommand;
@@ -87,6 +88,9 @@ public class AddressBookParser {
         case AddPersonCommand.COMMAND_WORD:
             return new AddCommandParser().parse(arguments);
 
+        case ImportGuestsCommand.COMMAND_WORD:
+            return new ImportGuestsCommandParser().parse(arguments);
+
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
 
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ImportGuestsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportGuestsCommand object
+ */
+public class ImportGuestsCommandParser implements Parser<ImportGuestsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportGuestsCommand
+     * and returns an ImportGuestsCommand object for execution.
+     * @throws ParseException if the user input is not a file path
+     */
+    @Override
+    public ImportGuestsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGuestsCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            return new ImportGuestsCommand(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGuestsCommand.MESSAGE_USAGE),
+                    ipe);
+        }
+    }
+}
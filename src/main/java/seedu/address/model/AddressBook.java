@@ -2,17 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.exceptions.NoCurrentWeddingException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.table.Table;
-import seedu.address.model.table.UniqueTableList;
+import seedu.address.model.util.SwitchableObservableList;
 import seedu.address.model.wedding.UniqueWeddingList;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
@@ -22,6 +24,9 @@ import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Number of recently used weddings kept built, besides the current wedding, before older ones are compacted. */
+    public static final int RECENTLY_USED_WEDDING_LIMIT = 3;
+
     /**
      * Manages the list of weddings in the address book.
      */
@@ -31,8 +36,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Initializes the address book with a default wedding and sets it as the current wedding.
      */
     private final UniqueWeddingList uniqueWeddingList;
-    private final UniquePersonList personList;
-    private final UniqueTableList tableList;
+
+    /**
+     * Live views of the current wedding's guests and tables.
+     * They are re-pointed, not copied, when the current wedding changes.
+     */
+    private final SwitchableObservableList<Person> personList;
+    private final SwitchableObservableList<Table> tableList;
+
+    /** The weddings used most recently, most recent first. See {@link #recordUse(Wedding)}. */
+    private final Deque<Wedding> recentlyUsedWeddings = new ArrayDeque<>();
+
+    /** Number of changes to the wedding list itself, as opposed to changes inside a wedding. */
+    private long weddingListChangeCount;
+
+    /** The version, and the state of the weddings it was last worked out from. See {@link #getVersion()}. */
+    private long version;
+    private long versionWeddingListChangeCount;
+    private long versionWeddingVersionSum;
 
     /**
      * Initializes the AddressBook object
@@ -40,8 +61,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public AddressBook() {
         uniqueWeddingList = new UniqueWeddingList();
-        personList = new UniquePersonList();
-        tableList = new UniqueTableList();
+        personList = new SwitchableObservableList<>();
+        tableList = new SwitchableObservableList<>();
+        uniqueWeddingList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Wedding>) change -> weddingListChangeCount++);
     }
 
     /**
@@ -72,8 +95,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         uniqueWeddingList.clear();
-        personList.clear();
-        tableList.clear();
+        recentlyUsedWeddings.clear();
 
         // Add all weddings from newData, ensuring no duplicates
         for (Wedding wedding : newData.getWeddingList()) {
@@ -85,13 +107,30 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         // Set current wedding if available
         if (newData.hasCurrentWedding() && !uniqueWeddingList.asUnmodifiableObservableList().isEmpty()) {
-            Wedding newCurrentWedding = newData.getCurrentWedding();
-
             setCurrentWeddingByName(newData.getCurrentWedding().getName());
+        }
+    }
 
-            personList.loadData(newCurrentWedding.getUniquePersonList());
-            tableList.loadData(newCurrentWedding.getTableList());
+    /**
+     * Returns a number that increases whenever a wedding is added, removed or replaced, or the guests, tables or
+     * seating of a wedding change. Choosing the current wedding does not change it.
+     * <p>
+     * Every change to a wedding gives it a new, higher {@link Wedding#getVersion() version}, so the sum of the
+     * wedding versions moves whenever any wedding changes while the wedding list stays the same. Working this out
+     * walks the weddings, not their guests.
+     * </p>
+     */
+    public long getVersion() {
+        long weddingVersionSum = 0;
+        for (Wedding wedding : uniqueWeddingList) {
+            weddingVersionSum += wedding.getVersion();
         }
+        if (weddingListChangeCount != versionWeddingListChangeCount || weddingVersionSum != versionWeddingVersionSum) {
+            version++;
+            versionWeddingListChangeCount = weddingListChangeCount;
+            versionWeddingVersionSum = weddingVersionSum;
+        }
+        return version;
     }
 
     // =========== Weddings
@@ -127,9 +166,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         this.currentWedding = wedding;
+        recordUse(wedding);
 
-        personList.loadData(wedding.getUniquePersonList());
-        tableList.loadData(wedding.getTableList());
+        personList.setSource(wedding.getUniquePersonList().asUnmodifiableObservableList());
+        tableList.setSource(wedding.getTableList().asUnmodifiableObservableList());
     }
 
     /**
@@ -158,7 +198,31 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     public Wedding getWeddingByName(String weddingName) {
-        return this.uniqueWeddingList.findWeddingByName(weddingName);
+        Wedding wedding = this.uniqueWeddingList.findWeddingByName(weddingName);
+        if (wedding != null) {
+            recordUse(wedding);
+        }
+        return wedding;
+    }
+
+    /**
+     * Records that {@code wedding} was just used, and compacts every other wedding that is neither the current wedding
+     * nor among the {@link #RECENTLY_USED_WEDDING_LIMIT} most recently used, so that only the weddings in use are
+     * kept built. Weddings that were never compacted, such as those created since the data was loaded, stay built.
+     */
+    private void recordUse(Wedding wedding) {
+        recentlyUsedWeddings.removeIf(used -> used == wedding);
+        recentlyUsedWeddings.addFirst(wedding);
+        while (recentlyUsedWeddings.size() > RECENTLY_USED_WEDDING_LIMIT) {
+            recentlyUsedWeddings.removeLast();
+        }
+
+        for (Wedding other : uniqueWeddingList) {
+            boolean isInUse = other == currentWedding || recentlyUsedWeddings.stream().anyMatch(used -> used == other);
+            if (!isInUse) {
+                other.compact();
+            }
+        }
     }
 
     /**
@@ -178,8 +242,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         uniqueWeddingList.deleteWedding(wedding);
 
         if (wedding == currentWedding) {
-            personList.clear();
-            tableList.clear();
+            personList.clearSource();
+            tableList.clearSource();
             currentWedding = null;
         }
     }
@@ -271,7 +335,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the person exists, false otherwise
      */
     public boolean hasPerson(Person person) {
-        return personList.contains(person) && getCurrentWedding().hasPerson(person);
+        requireNonNull(person);
+        return getCurrentWedding().hasPerson(person);
     }
 
     /**
@@ -282,7 +347,14 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new DuplicatePersonException();
         }
         getCurrentWedding().addPerson(person);
-        personList.add(person);
+    }
+
+    /**
+     * Adds all of {@code persons} to the current wedding as one change, seating each at the table whose ID is at the
+     * same position in {@code tableIds}. See {@link Wedding#loadGuests(List, int[])}.
+     */
+    public void addPersons(List<Person> persons, int[] tableIds) {
+        getCurrentWedding().loadGuests(persons, tableIds);
     }
 
     /**
@@ -292,29 +364,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         getCurrentWedding().setPerson(target, editedPerson);
-        personList.setPerson(target, editedPerson);
-
-        // Since switching tables isn't allowed with the edit command
-        if (target.isSeated()) {
-            int tid = target.getTableId();
-            Table oldTable = tableList.findTableById(tid);
-            oldTable.setPerson(target, editedPerson);
-            tableList.setTable(oldTable, tableList.findTableById(tid));
-        }
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}. {@code key} must exist in the address book.
+     * If {@code key} is seated, they are removed from their table as well.
      */
     public void deletePerson(Person key) {
         requireNonNull(key);
-
-        if (key.isSeated()) {
-            deletePersonFromTable(key, key.getTableId());
-        }
-
-        getCurrentWedding().deletePerson(new Person(key, -1));
-        personList.delete(key);
+        getCurrentWedding().deletePerson(key);
     }
 
     /**
@@ -336,7 +394,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the table exists, false otherwise
      */
     public boolean hasTable(Table table) {
-        return this.tableList.hasTable(table) && getCurrentWedding().hasTable(table);
+        return getCurrentWedding().hasTable(table);
     }
 
     /**
@@ -346,7 +404,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the table exists, false otherwise
      */
     public boolean hasTable(int tableId) {
-        return this.tableList.hasTableById(tableId) && getCurrentWedding().hasTableById(tableId);
+        return getCurrentWedding().hasTableById(tableId);
     }
 
     /**
@@ -356,7 +414,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTable(Table table) {
         getCurrentWedding().addTable(table);
-        tableList.addTable(table);
     }
 
     /**
@@ -365,15 +422,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param table the Table to delete
      */
     public void deleteTable(Table table) {
-        for (Person p : table.getAllPersons()) {
-            Person removedFromTable = new Person(p, -1);
-            getCurrentWedding().setPerson(p, removedFromTable);
-            this.personList.setPerson(p, removedFromTable);
-        }
-
         getCurrentWedding().deleteTable(table);
-
-        tableList.deleteTable(table);
     }
 
     /**
@@ -395,7 +444,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTable(Table target, Table editedTable) {
         requireNonNull(editedTable);
         getCurrentWedding().setTable(target, editedTable);
-        tableList.setTable(target, editedTable);
     }
 
     /**
@@ -405,16 +453,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param table the Table to add the person to
      */
     public void addPersonToTable(Person p, Table table) {
-        int tableId = table.getTableId();
-        int oldTableId = p.getTableId();
-
         getCurrentWedding().addPersonToTable(p, table);
-        personList.setPerson(p, new Person(p, tableId));
-        tableList.setTable(table, getCurrentWedding().findTableById(tableId));
-        if (oldTableId > -1) {
-            tableList.setTable(getCurrentWedding().findTableById(oldTableId),
-                getCurrentWedding().findTableById(oldTableId));
-        }
     }
 
     /**
@@ -424,7 +463,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param tableId the ID of the Table to add the person to
      */
     public void addPersonToTableById(Person p, int tableId) {
-        Table t = this.tableList.findTableById(tableId);
+        Table t = getCurrentWedding().findTableById(tableId);
         addPersonToTable(p, t);
     }
 
@@ -436,8 +475,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deletePersonFromTable(Person p, Table table) {
         this.getCurrentWedding().deletePersonFromTable(p, table);
-        personList.setPerson(p, new Person(p, -1));
-        tableList.setTable(table, this.getCurrentWedding().findTableById(table.getTableId()));
     }
 
     /**
@@ -471,12 +508,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<Person> getPersonList() {
-        return this.personList.asUnmodifiableObservableList();
+        return this.personList;
     }
 
     @Override
     public ObservableList<Table> getTableList() {
-        return this.tableList.asUnmodifiableObservableList();
+        return this.tableList;
     }
 
     @Override
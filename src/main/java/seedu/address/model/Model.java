@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.beans.PropertyChangeListener;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.table.Table;
+import seedu.address.model.wedding.SeatingPlan;
 import seedu.address.model.wedding.Wedding;
 
 /**
@@ -59,6 +61,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book data, which increases whenever the data changes.
+     * Comparing the versions before and after a command tells whether the command changed the data.
+     */
+    long getAddressBookVersion();
+
     //=========== Person ==================================================================================
 
     /**
@@ -78,6 +86,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} to the current wedding as one change, seating each at the table whose ID is at the
+     * same position in {@code tableIds}, or leaving them unseated where that ID is {@link SeatingPlan#UNSEATED}.
+     * None of {@code persons} may already exist in the address book, and their tables must have enough free seats.
+     */
+    void addPersons(List<Person> persons, int[] tableIds);
+
     Person findPersonByName(Name name) throws CommandException;
 
     /**
@@ -152,6 +167,12 @@ public interface Model {
      */
     Wedding getCurrentWedding();
 
+    /**
+     * Returns the ID of the table {@code person} is seated at in the current wedding,
+     * or {@code SeatingPlan.UNSEATED} if they have no seat or there is no current wedding.
+     */
+    int getTableIdOf(Person person);
+
     Wedding findWeddingByName(String weddingName);
 
     /**
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -21,6 +22,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
+import seedu.address.model.wedding.SeatingPlan;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
@@ -108,6 +110,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -155,6 +162,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons, int[] tableIds) {
+        requireAllNonNull(persons, tableIds);
+        addressBook.addPersons(persons, tableIds);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -281,6 +295,15 @@ public class ModelManager implements Model {
         return addressBook.getCurrentWedding();
     }
 
+    @Override
+    public int getTableIdOf(Person person) {
+        requireNonNull(person);
+        if (!hasCurrentWedding()) {
+            return SeatingPlan.UNSEATED;
+        }
+        return getCurrentWedding().getTableIdOf(person);
+    }
+
     @Override
     public Wedding findWeddingByName(String weddingName) {
         return addressBook.getWeddingByName(weddingName);
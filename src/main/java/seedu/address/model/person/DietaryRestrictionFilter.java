@@ -19,6 +19,10 @@ public class DietaryRestrictionFilter implements Predicate<Person> {
         this.dietaryRestrictionFilter = dietaryRestriction;
     }
 
+    public DietaryRestriction getDietaryRestriction() {
+        return dietaryRestrictionFilter;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getDietaryRestriction().equals(dietaryRestrictionFilter);
@@ -46,9 +46,72 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Accepts exactly the strings matched by {@link #VALIDATION_REGEX}, but checks them in one pass over the string,
+     * as the regex can take exponential time to reject a long domain name.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, 0, at) && isValidDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if the characters from {@code start} to {@code end} are alphanumeric, separated by single
+     * special characters.
+     */
+    private static boolean isValidLocalPart(String test, int start, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if the characters from {@code start} to {@code end} are domain labels separated by single periods.
+     */
+    private static boolean isValidDomain(String test, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i < end; i++) {
+            if (test.charAt(i) == '.') {
+                if (!isValidDomainLabel(test, labelStart, i, false)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isValidDomainLabel(test, labelStart, end, true);
+    }
+
+    /**
+     * Returns true if the characters from {@code start} to {@code end} are alphanumeric, separated by single hyphens.
+     * The last label of a domain must also have at least two alphanumeric characters in a row.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        int run = 0;
+        int longestRun = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                run++;
+                longestRun = Math.max(longestRun, run);
+            } else if (c == '-' && run > 0) {
+                run = 0;
+            } else {
+                return false;
+            }
+        }
+        return run > 0 && (!isLastLabel || longestRun >= 2);
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     @Override
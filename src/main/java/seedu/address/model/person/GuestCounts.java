@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Running totals over a group of guests: how many there are, and how many have each dietary restriction and each
+ * RSVP status.
+ * <p>
+ * The totals are kept up to date by the {@link UniquePersonList} that owns them as guests are added, edited and
+ * removed, so reading any of them is O(1) and does not walk the guests.
+ * </p>
+ */
+public class GuestCounts {
+
+    private final int[] restrictionCounts = new int[DietaryRestriction.TypicalRestriction.values().length];
+    private final int[] rsvpCounts = new int[Rsvp.Status.values().length];
+    private int total;
+
+    /**
+     * Creates totals for an empty group of guests.
+     */
+    public GuestCounts() {
+
+    }
+
+    /**
+     * Creates a copy of the given totals.
+     *
+     * @param other The totals to copy.
+     */
+    public GuestCounts(GuestCounts other) {
+        requireNonNull(other);
+        System.arraycopy(other.restrictionCounts, 0, restrictionCounts, 0, restrictionCounts.length);
+        System.arraycopy(other.rsvpCounts, 0, rsvpCounts, 0, rsvpCounts.length);
+        total = other.total;
+    }
+
+    /**
+     * Returns the number of guests.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of guests with the given dietary restriction.
+     */
+    public int getCount(DietaryRestriction.TypicalRestriction restriction) {
+        requireNonNull(restriction);
+        return restrictionCounts[restriction.ordinal()];
+    }
+
+    /**
+     * Returns the number of guests with the given RSVP status.
+     */
+    public int getCount(Rsvp.Status status) {
+        requireNonNull(status);
+        return rsvpCounts[status.ordinal()];
+    }
+
+    /**
+     * Counts {@code person} as one more guest.
+     */
+    void add(Person person) {
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person}, who must have been counted before.
+     */
+    void remove(Person person) {
+        update(person, -1);
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    void clear() {
+        Arrays.fill(restrictionCounts, 0);
+        Arrays.fill(rsvpCounts, 0);
+        total = 0;
+    }
+
+    private void update(Person person, int delta) {
+        total += delta;
+        restrictionCounts[person.getDietaryRestriction().getTypicalRestriction().ordinal()] += delta;
+        rsvpCounts[person.getRsvp().getStatus().ordinal()] += delta;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GuestCounts)) {
+            return false;
+        }
+        GuestCounts otherCounts = (GuestCounts) other;
+        return total == otherCounts.total
+                && Arrays.equals(restrictionCounts, otherCounts.restrictionCounts)
+                && Arrays.equals(rsvpCounts, otherCounts.rsvpCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * total + Arrays.hashCode(restrictionCounts)) + Arrays.hashCode(rsvpCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "GuestCounts{total=" + total + ", restrictions=" + Arrays.toString(restrictionCounts)
+                + ", rsvp=" + Arrays.toString(rsvpCounts) + "}";
+    }
+}
@@ -12,6 +12,8 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book. Guarantees: details are present and not null, field values are validated,
  * immutable.
+ * A person does not record where they are seated; see {@code SeatingPlan}. This lets the same person instance be
+ * shared by the guest list and a table without being copied when the person changes seats.
  */
 public class Person {
 
@@ -26,28 +28,10 @@ public class Person {
 
     private final DietaryRestriction dietaryRestriction;
     private final Rsvp rsvp;
-    // Value of -1 denotes an unseated person
-    private final int tableId;
 
     /**
      * Every field must be present and not null.
      */
-    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
-            DietaryRestriction dietaryRestriction, Rsvp rsvp, int tableId) {
-        requireAllNonNull(name, phone, email, address, tags, dietaryRestriction, rsvp, tableId);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.dietaryRestriction = dietaryRestriction;
-        this.rsvp = rsvp;
-        this.tableId = tableId;
-    }
-
-    /**
-     * Constructor for person with unassigned table
-     */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
                   DietaryRestriction dietaryRestriction, Rsvp rsvp) {
         requireAllNonNull(name, phone, email, address, tags, dietaryRestriction, rsvp);
@@ -58,31 +42,10 @@ public class Person {
         this.tags.addAll(tags);
         this.dietaryRestriction = dietaryRestriction;
         this.rsvp = rsvp;
-        this.tableId = -1;
     }
 
     /**
-     * Creates a new Person by copying attributes from an existing guest and assigning them to a specific table.
-     *
-     * @param guest A guest object to copy attributes from
-     * @param tableId A table object that this guest is assigned to
-     */
-    public Person(Person guest, int tableId) {
-        requireAllNonNull(guest.name, guest.phone, guest.email, guest.address, guest.tags, guest.dietaryRestriction,
-                guest.rsvp);
-        this.name = guest.getName();
-        this.phone = guest.getPhone();
-        this.email = guest.getEmail();
-        this.address = guest.getAddress();
-        this.tags.addAll(guest.getTags());
-        this.dietaryRestriction = guest.getDietaryRestriction();
-        this.rsvp = guest.getRsvp();
-        this.tableId = tableId;
-    }
-
-    /**
-     * Creates a new Person that is a copy of another Person. All attributes are copied from the other Person, including
-     * any table assignment.
+     * Creates a new Person that is a copy of another Person. All attributes are copied from the other Person.
      *
      * @param other The Person object to copy from
      */
@@ -96,7 +59,6 @@ public class Person {
         this.tags.addAll(other.getTags());
         this.dietaryRestriction = other.getDietaryRestriction();
         this.rsvp = other.getRsvp();
-        this.tableId = other.getTableId();
     }
 
     /**
@@ -153,28 +115,6 @@ public class Person {
         return rsvp;
     }
 
-    /**
-     * Returns the table assignment of this person.
-     *
-     * @return The table assignment of this person
-     */
-    public int getTableId() {
-        return tableId;
-    }
-
-    public boolean isSeated() {
-        return tableId > -1;
-    }
-
-    /**
-     * Get the string representation for the table id. Return "Unassigned" if the guest is unassigned to a table.
-     *
-     * @return The string representation for the table id
-     */
-    public String getTableIdString() {
-        return tableId == -1 ? "Unassigned" : String.valueOf(tableId);
-    }
-
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException} if modification is attempted.
      */
@@ -212,8 +152,7 @@ public class Person {
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name) && phone.equals(otherPerson.phone) && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address) && tags.equals(otherPerson.tags)
-                && dietaryRestriction.equals(otherPerson.dietaryRestriction) && rsvp.equals(otherPerson.rsvp)
-                && getTableId() == otherPerson.getTableId();
+                && dietaryRestriction.equals(otherPerson.dietaryRestriction) && rsvp.equals(otherPerson.rsvp);
     }
 
     @Override
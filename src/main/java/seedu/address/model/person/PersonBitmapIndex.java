@@ -0,0 +1,270 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Bitmap indexes over the persons of a {@link UniquePersonList}, one bit set per dietary restriction, RSVP status,
+ * tag and lower-cased word of a name, plus one for seated persons.
+ * <p>
+ * Each person is given a slot when added and keeps it until removed, so an edit or a removal only touches that one
+ * slot's bits. Questions such as "vegan guests who said no" are answered by ANDing the matching bit sets rather than
+ * by testing every person. The index is kept up to date by the owning list.
+ * </p>
+ */
+public class PersonBitmapIndex {
+
+    private static final Pattern NAME_TOKEN_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<Person, Integer> slotByPerson = new IdentityHashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    private final EnumMap<TypicalRestriction, BitSet> byRestriction = new EnumMap<>(TypicalRestriction.class);
+    private final EnumMap<Status, BitSet> byRsvp = new EnumMap<>(Status.class);
+    private final Map<Tag, BitSet> byTag = new HashMap<>();
+    private final Map<String, BitSet> byNameToken = new HashMap<>();
+    private final BitSet seated = new BitSet();
+
+    /** Incremented on every change, so that cached query results can tell when they are stale. */
+    private int modCount;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonBitmapIndex() {
+        for (TypicalRestriction restriction : TypicalRestriction.values()) {
+            byRestriction.put(restriction, new BitSet());
+        }
+        for (Status status : Status.values()) {
+            byRsvp.put(status, new BitSet());
+        }
+    }
+
+    /**
+     * Creates a copy of the given index.
+     *
+     * @param other The index to copy.
+     */
+    public PersonBitmapIndex(PersonBitmapIndex other) {
+        requireNonNull(other);
+        slotByPerson.putAll(other.slotByPerson);
+        usedSlots.or(other.usedSlots);
+        other.byRestriction.forEach((restriction, bits) -> byRestriction.put(restriction, (BitSet) bits.clone()));
+        other.byRsvp.forEach((status, bits) -> byRsvp.put(status, (BitSet) bits.clone()));
+        other.byTag.forEach((tag, bits) -> byTag.put(tag, (BitSet) bits.clone()));
+        other.byNameToken.forEach((token, bits) -> byNameToken.put(token, (BitSet) bits.clone()));
+        seated.or(other.seated);
+    }
+
+    /**
+     * Returns the slots of the persons with the given dietary restriction and RSVP status.
+     * A null argument places no constraint on that attribute.
+     */
+    public BitSet select(TypicalRestriction restriction, Status status) {
+        BitSet result = (BitSet) usedSlots.clone();
+        if (restriction != null) {
+            result.and(byRestriction.get(restriction));
+        }
+        if (status != null) {
+            result.and(byRsvp.get(status));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of the persons with the given tag.
+     */
+    public BitSet selectTagged(Tag tag) {
+        requireNonNull(tag);
+        BitSet bits = byTag.get(tag);
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    /**
+     * Returns the slots of the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public BitSet selectNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            BitSet postings = byNameToken.get(keyword.trim().toLowerCase());
+            if (postings != null) {
+                result.or(postings);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of the persons who are seated ({@code true}) or unseated ({@code false}).
+     */
+    public BitSet selectSeated(boolean isSeated) {
+        BitSet result = (BitSet) usedSlots.clone();
+        if (isSeated) {
+            result.and(seated);
+        } else {
+            result.andNot(seated);
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code person} is indexed and their slot is set in {@code slots}.
+     */
+    public boolean isSelected(Person person, BitSet slots) {
+        Integer slot = slotByPerson.get(person);
+        return slot != null && slots.get(slot);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons with the given dietary restriction and RSVP status.
+     * A null argument places no constraint on that attribute.
+     * <p>
+     * The predicate works out the matching slots once with {@link #select} and then answers each test with a slot
+     * lookup and a single bit test. If this index changes, the matching slots are worked out again on the next test.
+     * Persons not in this index, e.g. guests of another wedding once the current wedding changes, are tested on their
+     * details instead.
+     * </p>
+     */
+    public Predicate<Person> matching(TypicalRestriction restriction, Status status) {
+        Predicate<Person> fallback = person -> {
+            boolean restrictionMatches = restriction == null
+                    || person.getDietaryRestriction().getTypicalRestriction() == restriction;
+            return restrictionMatches && (status == null || person.getRsvp().getStatus() == status);
+        };
+        return selectionPredicate(() -> select(restriction, status), fallback);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons selected by {@link #selectNameContainingAny}, working in the same
+     * way as {@link #matching}. Persons not in this index are tested with {@code fallback}.
+     */
+    public Predicate<Person> matchingNameContainingAny(Collection<String> keywords, Predicate<Person> fallback) {
+        requireNonNull(fallback);
+        return selectionPredicate(() -> selectNameContainingAny(keywords), fallback);
+    }
+
+    /**
+     * Returns a predicate that accepts the indexed persons whose slots are in the selection made by {@code selector},
+     * making the selection again whenever this index has changed since it was last made.
+     */
+    private Predicate<Person> selectionPredicate(Supplier<BitSet> selector, Predicate<Person> fallback) {
+        return new Predicate<>() {
+            private BitSet matches;
+            private int matchesModCount;
+
+            @Override
+            public boolean test(Person person) {
+                Integer slot = slotByPerson.get(person);
+                if (slot == null) {
+                    return fallback.test(person);
+                }
+                if (matches == null || matchesModCount != modCount) {
+                    matches = selector.get();
+                    matchesModCount = modCount;
+                }
+                return matches.get(slot);
+            }
+        };
+    }
+
+    /**
+     * Indexes {@code person} in a free slot.
+     */
+    void add(Person person) {
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        slotByPerson.put(person, slot);
+        setAttributes(person, slot, true);
+        modCount++;
+    }
+
+    /**
+     * Removes {@code person} from the index and frees their slot.
+     */
+    void remove(Person person) {
+        Integer slot = slotByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        setAttributes(person, slot, false);
+        seated.clear(slot);
+        usedSlots.clear(slot);
+        modCount++;
+    }
+
+    /**
+     * Moves {@code target}'s slot to {@code editedPerson} and re-indexes the slot with the edited details.
+     * Whether the slot is seated is kept.
+     */
+    void replace(Person target, Person editedPerson) {
+        Integer slot = slotByPerson.remove(target);
+        if (slot == null) {
+            add(editedPerson);
+            return;
+        }
+        setAttributes(target, slot, false);
+        slotByPerson.put(editedPerson, slot);
+        setAttributes(editedPerson, slot, true);
+        modCount++;
+    }
+
+    /**
+     * Records whether {@code person} is seated.
+     */
+    void setSeated(Person person, boolean isSeated) {
+        Integer slot = slotByPerson.get(person);
+        if (slot == null) {
+            return;
+        }
+        seated.set(slot, isSeated);
+        modCount++;
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        slotByPerson.clear();
+        usedSlots.clear();
+        byRestriction.values().forEach(BitSet::clear);
+        byRsvp.values().forEach(BitSet::clear);
+        byTag.clear();
+        byNameToken.clear();
+        seated.clear();
+        modCount++;
+    }
+
+    private void setAttributes(Person person, int slot, boolean value) {
+        byRestriction.get(person.getDietaryRestriction().getTypicalRestriction()).set(slot, value);
+        byRsvp.get(person.getRsvp().getStatus()).set(slot, value);
+        for (Tag tag : person.getTags()) {
+            setPosting(byTag, tag, slot, value);
+        }
+        for (String token : NAME_TOKEN_SEPARATOR.split(person.getName().fullName)) {
+            if (!token.isEmpty()) {
+                setPosting(byNameToken, token.toLowerCase(), slot, value);
+            }
+        }
+    }
+
+    private static <K> void setPosting(Map<K, BitSet> postings, K key, int slot, boolean value) {
+        BitSet bits = postings.computeIfAbsent(key, unused -> new BitSet());
+        bits.set(slot, value);
+        if (bits.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -20,7 +27,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Identity lookups by name are answered in O(1) through a
+ * case-insensitive name index that is kept in sync with the backing list on every mutation, together with each
+ * person's position in the backing list. The same mutations keep the list's {@link GuestCounts} and
+ * {@link PersonBitmapIndex} up to date.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -30,23 +40,36 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
 
+    /** Maps the canonical key of each person's name to the person stored in {@code internalList}. */
+    private final Map<String, Person> nameIndex = new HashMap<>();
+
+    /** Maps the canonical key of each person's name to the person's position in {@code internalList}. */
+    private final Map<String, Integer> positionIndex = new HashMap<>();
+
+    private final GuestCounts guestCounts;
+
+    private final PersonBitmapIndex bitmapIndex;
+
     /**
      * Constructs an empty UniquePersonList.
      */
     public UniquePersonList() {
-
+        guestCounts = new GuestCounts();
+        bitmapIndex = new PersonBitmapIndex();
     }
 
     /**
      * Constructs a UniquePersonList containing the persons in the given list.
-     * The persons are added as deep copies of the original persons.
+     * Persons are immutable, so the new list shares the person instances of the original list.
      *
      * @param other The UniquePersonList to copy from
      */
     public UniquePersonList(UniquePersonList other) {
-        for (Person p : other) {
-            add(new Person(p));
-        }
+        internalList.setAll(other.internalList);
+        nameIndex.putAll(other.nameIndex);
+        positionIndex.putAll(other.positionIndex);
+        guestCounts = new GuestCounts(other.guestCounts);
+        bitmapIndex = new PersonBitmapIndex(other.bitmapIndex);
     }
 
     /**
@@ -54,7 +77,7 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toKey(toCheck.getName()));
     }
 
     /**
@@ -67,6 +90,44 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        indexPerson(toAdd, internalList.size() - 1);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list with a single change to the backing list.
+     * None of the persons may already exist in the list or be the same person as another of {@code toAdd}; if any is,
+     * nothing is added.
+     *
+     * @throws DuplicatePersonException if {@code toAdd} would make the list contain duplicate persons
+     */
+    public void addAll(Collection<Person> toAdd) {
+        addAll(toAdd, person -> false);
+    }
+
+    /**
+     * Adds all of {@code toAdd} as {@link #addAll(Collection)} does, recording those accepted by {@code isSeated} as
+     * seated at a table.
+     *
+     * @throws DuplicatePersonException if {@code toAdd} would make the list contain duplicate persons
+     */
+    public void addAll(Collection<Person> toAdd, Predicate<Person> isSeated) {
+        requireAllNonNull(toAdd, isSeated);
+        Set<String> keysToAdd = new HashSet<>();
+        for (Person p : toAdd) {
+            String key = toKey(p.getName());
+            if (nameIndex.containsKey(key) || !keysToAdd.add(key)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int position = internalList.size();
+        for (Person p : toAdd) {
+            indexPerson(p, position++);
+            if (isSeated.test(p)) {
+                bitmapIndex.setSeated(p, true);
+            }
+        }
+        internalList.addAll(toAdd);
     }
 
     /**
@@ -81,9 +142,15 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
 
         // Do a double check just in case
         Person matchingPerson = this.findPersonByName(toRemove.getName());
-        if (!internalList.remove(matchingPerson)) {
-            throw new PersonNotFoundException();
+        int index = indexOfPerson(matchingPerson);
+        internalList.remove(index);
+        nameIndex.remove(toKey(matchingPerson.getName()));
+        positionIndex.remove(toKey(matchingPerson.getName()));
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(toKey(internalList.get(i).getName()), i);
         }
+        guestCounts.remove(matchingPerson);
+        bitmapIndex.remove(matchingPerson);
     }
 
     /**
@@ -107,17 +174,34 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
         requireAllNonNull(target, editedPerson);
 
         Person targetWithSameName = findPersonByName(target.getName());
-        int index = internalList.indexOf(targetWithSameName);
-
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        int index = indexOfPerson(targetWithSameName);
 
         if (!targetWithSameName.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        nameIndex.remove(toKey(targetWithSameName.getName()));
+        nameIndex.put(toKey(editedPerson.getName()), editedPerson);
+        positionIndex.remove(toKey(targetWithSameName.getName()));
+        positionIndex.put(toKey(editedPerson.getName()), index);
+        guestCounts.remove(targetWithSameName);
+        guestCounts.add(editedPerson);
+        bitmapIndex.replace(targetWithSameName, editedPerson);
+    }
+
+    /**
+     * Records whether {@code person}, who must be in this list, is seated at a table, and tells listeners of this list
+     * that the person's displayed details changed.
+     * This fires a single-element replacement at the person's position rather than replacing the person.
+     *
+     * @throws PersonNotFoundException if the person is not in the list
+     */
+    public void setSeated(Person person, boolean isSeated) {
+        requireNonNull(person);
+        Person storedPerson = findPersonByName(person.getName());
+        bitmapIndex.setSeated(storedPerson, isSeated);
+        internalList.set(indexOfPerson(storedPerson), storedPerson);
     }
 
     /**
@@ -128,6 +212,7 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -140,6 +225,7 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
             throw new DuplicatePersonException();
         }
         internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
@@ -149,6 +235,22 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the running totals over the persons in this list.
+     * The returned object stays up to date as this list changes.
+     */
+    public GuestCounts getGuestCounts() {
+        return guestCounts;
+    }
+
+    /**
+     * Returns the bitmap indexes over the persons in this list.
+     * The returned object stays up to date as this list changes.
+     */
+    public PersonBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
     /**
      * Returns all guests' names in the RSVP list.
      * @return List of all guests' names in the RSVP list
@@ -169,10 +271,11 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public Person findPersonByName(Name name) throws PersonNotFoundException {
         requireNonNull(name);
-        return internalList.stream()
-            .filter(person -> person.getName().equals(name))
-            .findFirst()
-            .orElseThrow(PersonNotFoundException::new);
+        Person person = nameIndex.get(toKey(name));
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
     }
 
     /**
@@ -181,18 +284,14 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      * @return boolean value representing if the person with the given name exists
      */
     public boolean hasPersonByName(Name name) {
-        try {
-            findPersonByName(name);
-            return true;
-        } catch (PersonNotFoundException pnfe) {
-            return false;
-        }
+        requireNonNull(name);
+        return nameIndex.containsKey(toKey(name));
     }
 
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -248,26 +347,76 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
     public void clear() {
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
+        this.nameIndex.clear();
+        this.positionIndex.clear();
+        this.guestCounts.clear();
+        this.bitmapIndex.clear();
     }
 
     @Override
     public void loadData(UniqueList<Person> other) {
-        this.clear();
-
+        List<Person> persons = new ArrayList<>();
         for (Person p : other.getListItems()) {
-            this.add(p);
+            persons.add(p);
+        }
+        setPersons(persons);
+    }
+
+    /**
+     * Returns the canonical index key for {@code name}.
+     */
+    private static String toKey(Name name) {
+        return name.toKey();
+    }
+
+    /**
+     * Returns the position of {@code person} in the backing list, comparing by reference.
+     *
+     * @throws PersonNotFoundException if the person is not in the list
+     */
+    private int indexOfPerson(Person person) {
+        Integer position = positionIndex.get(toKey(person.getName()));
+        if (position == null || internalList.get(position) != person) {
+            throw new PersonNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Rebuilds the name and position indexes, the guest counts and the bitmap index from the contents of the
+     * backing list.
+     * Seating is not known to this list, so every person is indexed as unseated.
+     */
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        positionIndex.clear();
+        guestCounts.clear();
+        bitmapIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            indexPerson(internalList.get(i), i);
         }
     }
 
+    /**
+     * Adds {@code person}, which is at {@code position} in the backing list, to the name and position indexes, guest
+     * counts and bitmap index.
+     */
+    private void indexPerson(Person person, int position) {
+        nameIndex.put(toKey(person.getName()), person);
+        positionIndex.put(toKey(person.getName()), position);
+        guestCounts.add(person);
+        bitmapIndex.add(person);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons are the same exactly when their name keys are equal, so this takes a single pass over {@code persons}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static boolean personsAreUnique(Collection<Person> persons) {
+        Set<String> seenKeys = new HashSet<>();
+        for (Person p : persons) {
+            if (!seenKeys.add(toKey(p.getName()))) {
+                return false;
             }
         }
         return true;
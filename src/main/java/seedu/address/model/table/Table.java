@@ -3,11 +3,13 @@ package seedu.address.model.table;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.Messages;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -17,13 +19,14 @@ import seedu.address.model.table.exceptions.TableFullException;
 /**
  * Represents a seating table in a wedding.
  * Each table has a unique ID, a seating capacity, and a list of assigned persons.
- * This class is immutable, meaning once a table is created, its properties cannot be modified.
+ * The ID and capacity are fixed once the table is created; the list of assigned persons is updated in place.
  */
 public final class Table {
 
-    public static final String ID_CONSTRAINTS = "The table ID should be a positive integer";
+    public static final String ID_CONSTRAINTS = "The table ID should be an integer between 1 and 100, inclusive";
     public static final String CAPACITY_CONSTRAINTS = "The table capacity should be a positive integer";
     public static final int MAX_CAPACITY = 100;
+    public static final int MAX_TABLE_ID = 100;
 
     /** The unique identifier for the table. */
     private final int tableId;
@@ -42,7 +45,7 @@ public final class Table {
      * @throws IllegalArgumentException if {@code tableId} or {@code capacity} is not positive.
      */
     public Table(int tableId, int capacity) {
-        if (tableId < 1 || tableId > 100) {
+        if (!isValidTableId(tableId)) {
             throw new IllegalArgumentException(Messages.MESSAGE_INVALID_TABLE_ID);
         }
         if (capacity < 1 || capacity > 100) {
@@ -56,13 +59,13 @@ public final class Table {
     /**
      * Constructs a new {@code Table} with the given ID, capacity, and assigned persons.
      *
-     * @param tableId The unique identifier for the table. Must be a positive integer.
+     * @param tableId The unique identifier for the table. Must be between 1 and {@link #MAX_TABLE_ID}, inclusive.
      * @param capacity The seating capacity of the table. Must be a positive integer.
      * @param uniquePersonList The list of persons assigned to this table.
-     * @throws IllegalArgumentException if {@code tableId} or {@code capacity} is not positive.
+     * @throws IllegalArgumentException if {@code tableId} is out of range or {@code capacity} is not positive.
      */
     public Table(int tableId, int capacity, UniquePersonList uniquePersonList) {
-        if (tableId <= 0) {
+        if (!isValidTableId(tableId)) {
             throw new IllegalArgumentException(ID_CONSTRAINTS);
         }
         if (capacity <= 0) {
@@ -86,6 +89,13 @@ public final class Table {
         this.uniquePersonList = new UniquePersonList(t.uniquePersonList);
     }
 
+    /**
+     * Returns true if {@code tableId} is a valid table ID, between 1 and {@link #MAX_TABLE_ID} inclusive.
+     */
+    public static boolean isValidTableId(int tableId) {
+        return tableId >= 1 && tableId <= MAX_TABLE_ID;
+    }
+
     /**
      * Returns the unique identifier for this table.
      *
@@ -109,27 +119,36 @@ public final class Table {
      * @param p Person to add to this table
      */
     public void addPerson(Person p) {
-        Person newPerson = new Person(p, tableId);
-
         if (uniquePersonList.contains(p)) {
-            setPerson(p, newPerson);
+            setPerson(p, p);
         } else {
-            if (getSize() == getCapacity()) {
+            if (isFull()) {
                 throw new TableFullException();
             }
             this.uniquePersonList.add(p);
         }
     }
 
+    /**
+     * Adds all of {@code persons} to this table at once.
+     * Nothing is added if they would not all fit or if any of them already sits here.
+     *
+     * @param persons Persons to add to this table
+     * @throws TableFullException if the persons would take the table over its capacity.
+     */
+    public void addPersons(Collection<Person> persons) {
+        if (getSize() + persons.size() > capacity) {
+            throw new TableFullException();
+        }
+        this.uniquePersonList.addAll(persons);
+    }
+
     /**
      * Deletes the given person from this table
      * if the person exists in this table.
      * @param p Person to delete from this table
      */
     public void deletePerson(Person p) {
-        Person newP = new Person(p);
-        boolean askfjlaksd = uniquePersonList.contains(p);
-        boolean aslkfjalskd2 = askfjlaksd;
         if (!uniquePersonList.contains(p)) {
             throw new PersonNotFoundException();
         }
@@ -201,6 +220,20 @@ public final class Table {
         return this.uniquePersonList.size();
     }
 
+    /**
+     * Returns the running totals over the persons seated at this table.
+     */
+    public GuestCounts getGuestCounts() {
+        return this.uniquePersonList.getGuestCounts();
+    }
+
+    /**
+     * Returns true if this table has no free seats left.
+     */
+    public boolean isFull() {
+        return getSize() >= getCapacity();
+    }
+
     /**
      * Returns an immutable list of persons' names assigned to this table.
      *
@@ -3,9 +3,12 @@ package seedu.address.model.table;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +27,12 @@ import seedu.address.model.table.exceptions.TableNotFoundException;
  * <p>
  * This list does not allow duplicate tables based on {@code Table#isSameTable(Table)}.
  * </p>
+ * <p>
+ * Table IDs are small positive integers, so tables are also kept in an array indexed by table ID.
+ * Lookups by ID are O(1), do not allocate, and a miss does not build an exception unless the caller asks for one.
+ * The position of each table in the list is kept next to it, so a table changed in place is refreshed without
+ * searching the list.
+ * </p>
  */
 public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
 
@@ -31,6 +40,11 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     private final ObservableList<Table> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Tables in {@code internalList}, indexed by table ID. Every valid table ID has a slot. */
+    private final Table[] tablesById = new Table[Table.MAX_TABLE_ID + 1];
+    /** The position in {@code internalList} of each table in {@code tablesById}, indexed by table ID. */
+    private final int[] positionsById = new int[Table.MAX_TABLE_ID + 1];
+
     /**
      * Creates a new empty UniqueTableList.
      */
@@ -58,7 +72,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public boolean contains(Table toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTable);
+        return toCheck.isSameTable(getTableById(toCheck.getTableId()));
     }
 
     /**
@@ -67,7 +81,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @return An iterator over tables in this list.
      */
     public Iterator<Table> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     /**
@@ -84,6 +98,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
             throw new DuplicateTableException();
         }
         internalList.add(toAdd);
+        putTable(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -93,13 +108,16 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @throws TableNotFoundException if the table does not exist.
      */
     public void deleteTableById(int tableId) {
-        requireNonNull(tableId);
-        Table table = findTableById(tableId);
-        if (table != null) {
-            internalList.remove(table);
-            return;
+        Table table = getTableById(tableId);
+        if (table == null) {
+            throw new TableNotFoundException();
+        }
+        int position = indexOfTable(table);
+        internalList.remove(position);
+        tablesById[tableId] = null;
+        for (int i = position; i < internalList.size(); i++) {
+            positionsById[internalList.get(i).getTableId()] = i;
         }
-        throw new TableNotFoundException();
     }
 
     /**
@@ -109,7 +127,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public void deleteTable(Table table) {
         requireNonNull(table);
-        internalList.remove(table);
+        if (hasTable(table)) {
+            deleteTableById(table.getTableId());
+        }
     }
 
     /**
@@ -119,13 +139,25 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @return An {@code Optional} containing the table if found, otherwise an empty {@code Optional}.
      */
     public Table findTableById(int tableId) throws TableNotFoundException {
-        requireNonNull(tableId);
-        try {
-            return internalList.stream().filter(table -> table.getTableId() == tableId)
-                .findFirst().get();
-        } catch (NoSuchElementException nsee) {
+        Table table = getTableById(tableId);
+        if (table == null) {
             throw new TableNotFoundException();
         }
+        return table;
+    }
+
+    /**
+     * Returns the table with the given ID, or null if there is no such table.
+     * Unlike {@link #findTableById(int)}, a miss does not throw.
+     *
+     * @param tableId The ID of the table to look up.
+     * @return The table with the given ID, or null if not found.
+     */
+    public Table getTableById(int tableId) {
+        if (tableId < 0 || tableId >= tablesById.length) {
+            return null;
+        }
+        return tablesById[tableId];
     }
 
     /**
@@ -136,12 +168,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public Table findTable(Table table) {
         requireNonNull(table);
-        try {
-            return internalList.stream().filter(t -> t.getTableId() == table.getTableId())
-                .findFirst().get();
-        } catch (NoSuchElementException nsee) {
-            return null;
-        }
+        return getTableById(table.getTableId());
     }
 
     /**
@@ -151,7 +178,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public boolean hasTable(Table table) {
         requireNonNull(table);
-        return internalList.contains(table);
+        return table.equals(getTableById(table.getTableId()));
     }
 
     /**
@@ -161,7 +188,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @return {@code true} if the table exists, otherwise {@code false}.
      */
     public boolean hasTableById(int tableId) {
-        return internalList.stream().anyMatch(table -> table.getTableId() == tableId);
+        return getTableById(tableId) != null;
     }
 
     /**
@@ -172,9 +199,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @throws TableNotFoundException if the table does not exist.
      */
     public void addPersonToTableById(Person person, int tableId) {
-        requireAllNonNull(tableId, person);
+        requireNonNull(person);
 
-        Table table = findTableById(tableId);
+        Table table = getTableById(tableId);
         if (table == null) {
             throw new TableNotFoundException();
         }
@@ -184,8 +211,8 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
 
     /**
      * Assigns a person to a specified table.
-     * Updates the internal list as adding a person to a table should techincally
-     * 'update' the table.
+     * The stored table is updated in place and listeners are told that only that table changed,
+     * so seating a guest does not copy the table or its guests.
      *
      * @param table The table to assign the person to.
      * @param person The person to be assigned.
@@ -197,11 +224,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         if (!hasTable(table)) {
             throw new TableNotFoundException();
         }
-        Table updatedTable = new Table(table);
-
-        updatedTable.addPerson(person);
-
-        internalList.set(internalList.indexOf(table), updatedTable);
+        Table storedTable = getTableById(table.getTableId());
+        storedTable.addPerson(person);
+        refreshTable(storedTable);
     }
 
     /**
@@ -212,9 +237,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @throws TableNotFoundException if the table does not exist.
      */
     public void deletePersonFromTableById(Person person, int tableId) {
-        requireAllNonNull(tableId, person);
+        requireNonNull(person);
 
-        Table table = findTableById(tableId);
+        Table table = getTableById(tableId);
 
         if (table == null) {
             throw new TableNotFoundException();
@@ -226,6 +251,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     /**
      * Deletes the given person from the given table
      * if the person exists in the given table.
+     * Like {@link #addPersonToTable(Person, Table)}, the stored table is updated in place.
      * @param person to be deleted
      * @param table to be deleted from
      */
@@ -233,16 +259,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         requireAllNonNull(table, person);
 
         Table tableWithSameId = findTableById(table.getTableId());
-        int index = internalList.indexOf(tableWithSameId);
-
-        if (index == -1) {
-            throw new TableNotFoundException();
-        }
 
         tableWithSameId.deletePerson(person);
-
-        Table updatedTable = new Table(tableWithSameId);
-        internalList.set(index, updatedTable);
+        refreshTable(tableWithSameId);
     }
 
     /**
@@ -258,16 +277,24 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         requireAllNonNull(target, editedTable);
 
         Table tableWithSameId = findTableById(target.getTableId());
-        int index = internalList.indexOf(tableWithSameId);
-        if (index == -1) {
-            throw new TableNotFoundException();
-        }
 
-        if (!tableWithSameId.isSameTable(editedTable) && contains(editedTable)) {
+        if (tableWithSameId.getTableId() != editedTable.getTableId() && hasTableById(editedTable.getTableId())) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedTable);
+        replaceTable(tableWithSameId, editedTable);
+    }
+
+    /**
+     * Tells listeners of this list that {@code table}, which must be in this list, was changed in place.
+     * This fires a single-element replacement at the table's position, which views such as
+     * {@code FilteredList} and {@code ListView} handle without touching the other tables.
+     *
+     * @throws TableNotFoundException if the table is not in the list.
+     */
+    public void refreshTable(Table table) {
+        requireNonNull(table);
+        internalList.set(indexOfTable(table), table);
     }
 
     /**
@@ -280,6 +307,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
             throw new DuplicatePersonException();
         }
         internalList.setAll(tables);
+        rebuildIdIndex();
     }
 
     /**
@@ -324,26 +352,67 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     public void clear() {
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
+        Arrays.fill(this.tablesById, null);
     }
 
     @Override
     public void loadData(UniqueList<Table> other) {
-        this.clear();
-
+        List<Table> tables = new ArrayList<>();
         for (Table t : other.getListItems()) {
-            this.addTable(t);
+            tables.add(t);
+        }
+        setTables(tables);
+    }
+
+    /**
+     * Replaces {@code oldTable}, which must be in this list, with {@code newTable} in both the list and the ID index.
+     */
+    private void replaceTable(Table oldTable, Table newTable) {
+        int position = indexOfTable(oldTable);
+        internalList.set(position, newTable);
+        tablesById[oldTable.getTableId()] = null;
+        putTable(newTable, position);
+    }
+
+    /**
+     * Returns the position of {@code table} in the backing list, comparing by reference.
+     *
+     * @throws TableNotFoundException if the table is not in the list.
+     */
+    private int indexOfTable(Table table) {
+        if (getTableById(table.getTableId()) != table) {
+            throw new TableNotFoundException();
+        }
+        return positionsById[table.getTableId()];
+    }
+
+    /**
+     * Records {@code table}, found at {@code position} in the backing list, in the ID index.
+     */
+    private void putTable(Table table, int position) {
+        int tableId = table.getTableId();
+        tablesById[tableId] = table;
+        positionsById[tableId] = position;
+    }
+
+    /**
+     * Rebuilds the ID index from the contents of the backing list.
+     */
+    private void rebuildIdIndex() {
+        Arrays.fill(tablesById, null);
+        for (int i = 0; i < internalList.size(); i++) {
+            putTable(internalList.get(i), i);
         }
     }
 
     /**
-     * Returns true if {@code tables} contains only unique persons.
+     * Returns true if {@code tables} contains only tables with distinct IDs.
      */
-    private boolean tablesAreUnique(List<Table> tables) {
-        for (int i = 0; i < tables.size() - 1; i++) {
-            for (int j = i + 1; j < tables.size(); j++) {
-                if (tables.get(i).isSameTable(tables.get(j))) {
-                    return false;
-                }
+    private static boolean tablesAreUnique(List<Table> tables) {
+        Set<Integer> seenIds = new HashSet<>();
+        for (Table t : tables) {
+            if (!seenIds.add(t.getTableId())) {
+                return false;
             }
         }
         return true;
@@ -26,27 +26,26 @@ public class SampleDataUtil {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                     new Address("Blk 30 Geylang Street 29, #06-40"), getTagSet("friends"),
                     new DietaryRestriction(DietaryRestriction.TypicalRestriction.VEGETARIAN),
-                    new Rsvp(Rsvp.Status.NO_RESPONSE), -1),
+                    new Rsvp(Rsvp.Status.NO_RESPONSE)),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                     new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), getTagSet("colleagues", "friends"),
                     new DietaryRestriction(DietaryRestriction.TypicalRestriction.VEGETARIAN),
-                    new Rsvp(Rsvp.Status.YES), -1),
+                    new Rsvp(Rsvp.Status.YES)),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                     new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), getTagSet("neighbours"),
-                    new DietaryRestriction(DietaryRestriction.TypicalRestriction.HALAL), new Rsvp(Rsvp.Status.NO),
-                -1),
+                    new DietaryRestriction(DietaryRestriction.TypicalRestriction.HALAL), new Rsvp(Rsvp.Status.NO)),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                     new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), getTagSet("family"),
                     new DietaryRestriction(DietaryRestriction.TypicalRestriction.PEANUTS),
-                    new Rsvp(Rsvp.Status.YES), -1),
+                    new Rsvp(Rsvp.Status.YES)),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                     new Address("Blk 47 Tampines Street 20, #17-35"), getTagSet("classmates"),
                     new DietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN),
-                    new Rsvp(Rsvp.Status.NO_RESPONSE), -1),
+                    new Rsvp(Rsvp.Status.NO_RESPONSE)),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                     new Address("Blk 45 Aljunied Street 85, #11-31"), getTagSet("colleagues"),
                     new DietaryRestriction(DietaryRestriction.TypicalRestriction.SHELLFISH),
-                    new Rsvp(Rsvp.Status.NO), -1) };
+                    new Rsvp(Rsvp.Status.NO)) };
     }
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
@@ -0,0 +1,112 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only, zero-copy view of another {@code ObservableList} whose backing list can be swapped.
+ * <p>
+ * Changes to the current backing list are forwarded to listeners of this view as they happen. Swapping the
+ * backing list is O(1) for the view itself and is reported to listeners as a single replacement of the whole
+ * list, so a {@code FilteredList} or {@code ListView} built on this view never has to be rebuilt.
+ * </p>
+ *
+ * @param <E> the type of elements in the list
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> forwardingListener = this::forwardChange;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a view that is initially backed by an empty list.
+     */
+    public SwitchableObservableList() {
+        this.source = FXCollections.emptyObservableList();
+    }
+
+    /**
+     * Makes this view show the contents of {@code newSource} and notifies listeners of the swap.
+     *
+     * @param newSource the list to view from now on
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(forwardingListener);
+        source = newSource;
+        source.addListener(forwardingListener);
+
+        if (oldSource.isEmpty() && source.isEmpty()) {
+            return;
+        }
+        beginChange();
+        if (!oldSource.isEmpty()) {
+            // The old list is no longer observed, so it stays unchanged while listeners read it
+            nextRemove(0, oldSource);
+        }
+        if (!source.isEmpty()) {
+            nextAdd(0, source.size());
+        }
+        endChange();
+    }
+
+    /**
+     * Makes this view empty and stops observing the current backing list.
+     */
+    public void clearSource() {
+        setSource(FXCollections.emptyObservableList());
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Re-fires a change of the backing list as a change of this view.
+     */
+    private void forwardChange(ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if (c.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = c.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    @SuppressWarnings("unchecked")
+                    List<E> removed = (List<E>) c.getRemoved();
+                    nextRemove(from, removed);
+                }
+                if (c.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.wedding;
+
+/**
+ * A compact form of a {@link Wedding}, such as its serialized data, that takes much less memory than the wedding's
+ * guests, tables and seating. Compact forms are immutable.
+ * <p>
+ * Equal compact forms hold equal weddings, so weddings can be compared by their compact forms without building them.
+ * Equal weddings may still have compact forms that are not equal, e.g. if their guests' names differ only in case.
+ * </p>
+ */
+public interface CompactWedding {
+
+    /**
+     * Builds the wedding held in this compact form, with its guests, tables and seating.
+     */
+    Wedding expand();
+
+    /**
+     * Returns a compact form of {@code wedding}, made in the same way as this one.
+     */
+    CompactWedding compact(Wedding wedding);
+}
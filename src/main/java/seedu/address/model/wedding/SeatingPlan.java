@@ -0,0 +1,125 @@
+package seedu.address.model.wedding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Name;
+
+/**
+ * Records the table that each guest of a wedding is seated at.
+ * <p>
+ * This is the single record of who sits where. Persons do not store their table, so changing a guest's seat does not
+ * create new {@code Person} objects; the table's own guest list is kept in step with this plan by {@link Wedding}.
+ * Guests are keyed by {@link Name#toKey()}, so lookups ignore case like {@code Name#equals}.
+ * </p>
+ */
+public class SeatingPlan {
+
+    /** Table ID reported for a guest who is not seated at any table. */
+    public static final int UNSEATED = -1;
+
+    /** How an unseated guest's table is shown to the user and written to the data file. */
+    public static final String UNSEATED_LABEL = "Unassigned";
+
+    private final Map<String, Integer> tableIdByGuest = new HashMap<>();
+
+    /**
+     * Creates an empty seating plan.
+     */
+    public SeatingPlan() {
+
+    }
+
+    /**
+     * Creates a copy of the given seating plan.
+     *
+     * @param other The seating plan to copy.
+     */
+    public SeatingPlan(SeatingPlan other) {
+        requireNonNull(other);
+        tableIdByGuest.putAll(other.tableIdByGuest);
+    }
+
+    /**
+     * Returns the ID of the table the guest is seated at, or {@link #UNSEATED} if the guest has no seat.
+     */
+    public int getTableId(Name guestName) {
+        requireNonNull(guestName);
+        Integer tableId = tableIdByGuest.get(guestName.toKey());
+        return tableId == null ? UNSEATED : tableId;
+    }
+
+    /**
+     * Returns true if the guest is seated at a table.
+     */
+    public boolean isSeated(Name guestName) {
+        requireNonNull(guestName);
+        return tableIdByGuest.containsKey(guestName.toKey());
+    }
+
+    /**
+     * Seats the guest at the table with the given ID, replacing any previous seat.
+     */
+    public void seat(Name guestName, int tableId) {
+        requireNonNull(guestName);
+        tableIdByGuest.put(guestName.toKey(), tableId);
+    }
+
+    /**
+     * Removes the guest's seat, if any.
+     */
+    public void unseat(Name guestName) {
+        requireNonNull(guestName);
+        tableIdByGuest.remove(guestName.toKey());
+    }
+
+    /**
+     * Moves the seat of a guest whose name changed from {@code oldName} to {@code newName}.
+     */
+    public void rename(Name oldName, Name newName) {
+        requireNonNull(oldName);
+        requireNonNull(newName);
+        Integer tableId = tableIdByGuest.remove(oldName.toKey());
+        if (tableId != null) {
+            tableIdByGuest.put(newName.toKey(), tableId);
+        }
+    }
+
+    /**
+     * Returns the number of seated guests.
+     */
+    public int size() {
+        return tableIdByGuest.size();
+    }
+
+    /**
+     * Returns how the given table ID is shown to the user, which is {@link #UNSEATED_LABEL} for {@link #UNSEATED}.
+     */
+    public static String toTableIdString(int tableId) {
+        return tableId == UNSEATED ? UNSEATED_LABEL : String.valueOf(tableId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SeatingPlan)) {
+            return false;
+        }
+        SeatingPlan otherPlan = (SeatingPlan) other;
+        return tableIdByGuest.equals(otherPlan.tableIdByGuest);
+    }
+
+    @Override
+    public int hashCode() {
+        return tableIdByGuest.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return tableIdByGuest.toString();
+    }
+}
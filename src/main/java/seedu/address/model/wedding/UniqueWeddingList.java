@@ -3,9 +3,13 @@ package seedu.address.model.wedding;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +28,10 @@ import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
  * <p>
  * This list does not allow duplicate weddings based on {@code Wedding#isSameWedding(Wedding)}.
  * </p>
+ * <p>
+ * Weddings are indexed by their lower-cased name, so lookups by name and membership checks are O(1) and never
+ * compare guest or table lists.
+ * </p>
  */
 public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding> {
 
@@ -31,12 +39,15 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     private final ObservableList<Wedding> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
 
+    /** Maps each wedding's lower-cased name to the wedding stored in {@code internalList}. */
+    private final Map<String, Wedding> nameIndex = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent wedding as the given argument.
      */
     public boolean contains(Wedding toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(wedding -> wedding.isSameWedding(toCheck));
+        return nameIndex.containsKey(toCheck.getNameLower());
     }
 
     /**
@@ -45,7 +56,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      * @return an Iterator of Wedding.
      */
     public Iterator<Wedding> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     /**
@@ -62,6 +73,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
         }
 
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getNameLower(), toAdd);
     }
 
     /**
@@ -73,9 +85,13 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void deleteWedding(Wedding wedding) {
         requireNonNull(wedding);
 
-        if (!internalList.remove(wedding)) {
+        Wedding storedWedding = nameIndex.get(wedding.getNameLower());
+        if (storedWedding == null || !storedWedding.equals(wedding)) {
             throw new WeddingNotFoundException();
         }
+
+        internalList.remove(indexOfWedding(storedWedding));
+        nameIndex.remove(storedWedding.getNameLower());
     }
 
     /**
@@ -100,10 +116,11 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      *
      */
     public Wedding findWeddingByName(String weddingName) {
-        String weddingNameLower = weddingName.toLowerCase();
-
-        return internalList.stream().filter(wedding -> wedding.getNameLower().equals(weddingNameLower))
-            .findFirst().orElseThrow(WeddingNotFoundException::new);
+        Wedding wedding = nameIndex.get(weddingName.toLowerCase());
+        if (wedding == null) {
+            throw new WeddingNotFoundException();
+        }
+        return wedding;
     }
 
     /**
@@ -114,11 +131,11 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      * @throws WeddingNotFoundException if no matching wedding is found.
      */
     public Wedding findWedding(Wedding wedding) {
-        try {
-            return internalList.stream().filter(w -> w.equals(wedding)).findFirst().get();
-        } catch (NoSuchElementException nsee) {
+        Wedding storedWedding = nameIndex.get(wedding.getNameLower());
+        if (storedWedding == null || !storedWedding.equals(wedding)) {
             throw new WeddingNotFoundException();
         }
+        return storedWedding;
     }
 
     /**
@@ -129,22 +146,18 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      */
     public boolean hasWeddingByName(String weddingName) {
         requireNonNull(weddingName);
-        try {
-            findWeddingByName(weddingName);
-            return true;
-        } catch (WeddingNotFoundException wnfe) {
-            return false;
-        }
+        return nameIndex.containsKey(weddingName.toLowerCase());
     }
 
     /**
-     * Checks if the given wedding object is in this wedding list
+     * Checks if the given wedding object is in this wedding list.
+     * Membership is by identity, so this does not compare the guest and table lists of the weddings.
      * @param wedding to check if it exists in this list
      * @return boolean value denoting whether the given wedding exists or not
      */
     public boolean hasWedding(Wedding wedding) {
         requireNonNull(wedding);
-        return internalList.contains(wedding);
+        return nameIndex.get(wedding.getNameLower()) == wedding;
     }
 
     /**
@@ -158,8 +171,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void setWedding(Wedding target, Wedding editedWedding) {
         requireAllNonNull(target, editedWedding);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!hasWedding(target)) {
             throw new WeddingNotFoundException();
         }
 
@@ -167,7 +179,9 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
             throw new DuplicateWeddingException();
         }
 
-        internalList.set(index, editedWedding);
+        internalList.set(indexOfWedding(target), editedWedding);
+        nameIndex.remove(target.getNameLower());
+        nameIndex.put(editedWedding.getNameLower(), editedWedding);
     }
 
     /**
@@ -178,6 +192,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void setWeddings(UniqueWeddingList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildNameIndex();
     }
 
     /**
@@ -193,6 +208,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
         }
 
         internalList.setAll(weddings);
+        rebuildNameIndex();
     }
 
     /**
@@ -269,29 +285,51 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void clear() {
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
+        this.nameIndex.clear();
     }
 
     @Override
     public void loadData(UniqueList<Wedding> other) {
-        this.clear();
-
+        List<Wedding> weddings = new ArrayList<>();
         for (Wedding w : other.getListItems()) {
-            this.addWedding(w);
+            weddings.add(w);
+        }
+        setWeddings(weddings);
+    }
+
+    /**
+     * Returns the position of {@code wedding} in the backing list, comparing by reference.
+     */
+    private int indexOfWedding(Wedding wedding) {
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == wedding) {
+                return i;
+            }
+        }
+        throw new WeddingNotFoundException();
+    }
+
+    /**
+     * Rebuilds the name index from the contents of the backing list.
+     */
+    private void rebuildNameIndex() {
+        nameIndex.clear();
+        for (Wedding w : internalList) {
+            nameIndex.put(w.getNameLower(), w);
         }
     }
 
     /**
-     * Checks if all weddings in the given list are unique based on isSameWedding().
+     * Checks if all weddings in the given list are unique based on isSameWedding(), which compares lower-cased names.
      *
      * @param weddings The list to check.
      * @return true if all weddings are unique, false otherwise.
      */
-    private boolean weddingsAreUnique(List<Wedding> weddings) {
-        for (int i = 0; i < weddings.size() - 1; i++) {
-            for (int j = i + 1; j < weddings.size(); j++) {
-                if (weddings.get(i).isSameWedding(weddings.get(j))) {
-                    return false;
-                }
+    private static boolean weddingsAreUnique(List<Wedding> weddings) {
+        Set<String> seenNames = new HashSet<>();
+        for (Wedding w : weddings) {
+            if (!seenNames.add(w.getNameLower())) {
+                return false;
             }
         }
         return true;
@@ -1,22 +1,60 @@
 package seedu.address.model.wedding;
 
-import java.util.Objects;
-
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.UniqueTableList;
+import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
 
 /**
  * Represents a Wedding in the address book.
+ * Where each guest sits is recorded in the wedding's {@link SeatingPlan}, which is kept in step with the guest lists
+ * of the tables.
+ * <p>
+ * A wedding read from storage may start out compacted: only its name and a {@link CompactWedding} are kept, and its
+ * guests, tables and seating are built from the compact form the first time they are used. {@link #compact()} turns
+ * a wedding back into its compact form to free the memory its guests and tables take up.
+ * </p>
  */
 public class Wedding {
+    /** Source of versions, shared by all weddings so that no two different states share a version. */
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final String name;
-    private final UniquePersonList uniquePersonList;
-    private final UniqueTableList tableList; // All tables for seating
+    private final String nameLower; // Cached, as weddings are looked up and compared by lower-cased name
+    private final ListChangeListener<Object> versionRenewer = change -> renewVersion();
+
+    // Null while the wedding is compacted
+    private UniquePersonList uniquePersonList;
+    private UniqueTableList tableList; // All tables for seating
+    private SeatingPlan seatingPlan;
+
+    /** Renewed whenever the guests or tables change, so that storage can tell which weddings to save. */
+    private long version;
+
+    /** The compact form last made of this wedding, if any, and the version of the wedding it holds. */
+    private CompactWedding compactForm;
+    private long compactFormVersion;
 
     /**
      * Constructs a new {@code Wedding} with the given name.
@@ -25,20 +63,143 @@ public class Wedding {
      * @param name Name of the wedding.
      */
     public Wedding(String name) {
+        requireNonNull(name);
         this.name = name;
+        this.nameLower = name.toLowerCase();
         this.uniquePersonList = new UniquePersonList();
         this.tableList = new UniqueTableList();
+        this.seatingPlan = new SeatingPlan();
+        this.version = lastVersion.incrementAndGet();
+        trackChanges();
+    }
+
+    /**
+     * Constructs a compacted {@code Wedding} with the given name, whose guests, tables and seating are built from
+     * {@code compactForm} when first used.
+     *
+     * @param name Name of the wedding.
+     * @param compactForm Compact form of the wedding.
+     */
+    public Wedding(String name, CompactWedding compactForm) {
+        requireAllNonNull(name, compactForm);
+        this.name = name;
+        this.nameLower = name.toLowerCase();
+        this.version = lastVersion.incrementAndGet();
+        this.compactForm = compactForm;
+        this.compactFormVersion = version;
     }
 
     /**
      * Constructs a deep copy of the given wedding.
+     * A copy of a compacted wedding is compacted too, and shares the compact form of the original.
      *
      * @param wedding The wedding to be copied.
      */
     public Wedding(Wedding wedding) {
         this.name = wedding.name;
-        this.uniquePersonList = new UniquePersonList(wedding.uniquePersonList);
-        this.tableList = new UniqueTableList(wedding.tableList);
+        this.nameLower = wedding.nameLower;
+        this.version = wedding.version;
+        this.compactForm = wedding.compactForm;
+        this.compactFormVersion = wedding.compactFormVersion;
+        if (!wedding.isCompacted()) {
+            this.uniquePersonList = new UniquePersonList(wedding.uniquePersonList);
+            this.tableList = new UniqueTableList(wedding.tableList);
+            this.seatingPlan = new SeatingPlan(wedding.seatingPlan);
+            trackChanges();
+        }
+    }
+
+    /**
+     * Renews the version on every change to the guest or table list. Seating a guest always updates the guest's row
+     * in the guest list, so seat changes are caught as well.
+     */
+    private void trackChanges() {
+        uniquePersonList.asUnmodifiableObservableList().addListener(versionRenewer);
+        tableList.asUnmodifiableObservableList().addListener(versionRenewer);
+    }
+
+    private void untrackChanges() {
+        uniquePersonList.asUnmodifiableObservableList().removeListener(versionRenewer);
+        tableList.asUnmodifiableObservableList().removeListener(versionRenewer);
+    }
+
+    private void renewVersion() {
+        version = lastVersion.incrementAndGet();
+    }
+
+    // =========== Compaction =================================================
+
+    /**
+     * Returns true if only the compact form of this wedding is held, and its guests and tables are not built.
+     */
+    public boolean isCompacted() {
+        return uniquePersonList == null;
+    }
+
+    /**
+     * Returns true if this wedding can be compacted, which is the case for weddings that started out compacted.
+     */
+    public boolean isCompactable() {
+        return compactForm != null;
+    }
+
+    /**
+     * Returns the compact form of this wedding if there is one that holds the wedding as it is now.
+     * This lets storage save a compacted wedding without building it.
+     */
+    public Optional<CompactWedding> getCompactForm() {
+        return compactForm != null && compactFormVersion == version ? Optional.of(compactForm) : Optional.empty();
+    }
+
+    /**
+     * Drops the guests, tables and seating of this wedding, keeping only its compact form.
+     * The compact form is only made again if the wedding changed since it was last made.
+     * Does nothing if the wedding is not {@link #isCompactable() compactable} or is already compacted.
+     */
+    public void compact() {
+        if (!isCompactable() || isCompacted()) {
+            return;
+        }
+        if (compactFormVersion != version) {
+            compactForm = compactForm.compact(this);
+            compactFormVersion = version;
+        }
+        untrackChanges();
+        uniquePersonList = null;
+        tableList = null;
+        seatingPlan = null;
+    }
+
+    /**
+     * Builds the guests, tables and seating of this wedding from its compact form if it is compacted.
+     * The version is kept, as the wedding has not changed.
+     */
+    private void expand() {
+        if (!isCompacted()) {
+            return;
+        }
+        Wedding expanded = compactForm.expand();
+        assert expanded.nameLower.equals(nameLower) && !expanded.isCompacted();
+        expanded.untrackChanges();
+        uniquePersonList = expanded.uniquePersonList;
+        tableList = expanded.tableList;
+        seatingPlan = expanded.seatingPlan;
+        trackChanges();
+    }
+
+    private UniquePersonList persons() {
+        expand();
+        return uniquePersonList;
+    }
+
+    private UniqueTableList tables() {
+        expand();
+        return tableList;
+    }
+
+    private SeatingPlan seats() {
+        expand();
+        return seatingPlan;
     }
 
     /**
@@ -51,7 +212,16 @@ public class Wedding {
     }
 
     public String getNameLower() {
-        return name.toLowerCase();
+        return nameLower;
+    }
+
+    /**
+     * Returns a number that changes whenever the guests, tables or seating of this wedding change.
+     * A copy of a wedding has the same version as the original until either changes, and no other wedding state ever
+     * has that version.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -60,7 +230,7 @@ public class Wedding {
      * @return The unique person list.
      */
     public UniquePersonList getUniquePersonList() {
-        return uniquePersonList;
+        return persons();
     }
 
     /**
@@ -69,7 +239,7 @@ public class Wedding {
      * @return The unique table list.
      */
     public UniqueTableList getTableList() {
-        return tableList;
+        return tables();
     }
 
     // =========== Persons =====================================================
@@ -80,29 +250,87 @@ public class Wedding {
      * @param person The person to add.
      */
     public void addPerson(Person person) {
-        uniquePersonList.add(person);
+        persons().add(person);
     }
 
     /**
-     * Removes a person from the wedding's guest list.
+     * Removes a person from the wedding's guest list, first removing them from their table if they are seated.
      *
      * @param person The person to delete.
      */
     public void deletePerson(Person person) {
-        uniquePersonList.delete(person);
-        if (person.isSeated()) {
-            deletePersonFromTableById(person, person.getTableId());
+        Person storedPerson = persons().findPersonByName(person.getName());
+        int tableId = seats().getTableId(storedPerson.getName());
+        if (tableId != SeatingPlan.UNSEATED) {
+            tables().deletePersonFromTableById(storedPerson, tableId);
+            seats().unseat(storedPerson.getName());
         }
+        persons().delete(storedPerson);
     }
 
     /**
      * Replaces the specified person with the edited person.
+     * If the person is seated, the edited person keeps the same seat.
      *
      * @param target The person to be replaced.
      * @param editedPerson The replacement person.
      */
     public void setPerson(Person target, Person editedPerson) {
-        uniquePersonList.setPerson(target, editedPerson);
+        int tableId = seats().getTableId(target.getName());
+        persons().setPerson(target, editedPerson);
+
+        if (tableId != SeatingPlan.UNSEATED) {
+            Table table = tables().findTableById(tableId);
+            table.setPerson(target, editedPerson);
+            tables().refreshTable(table);
+            seats().rename(target.getName(), editedPerson.getName());
+        }
+    }
+
+    /**
+     * Adds {@code guests} to the wedding in one pass, seating each guest at the table whose ID is at the same position
+     * in {@code tableIds}, or leaving the guest unseated where that ID is {@link SeatingPlan#UNSEATED}.
+     * The tables must already be in the wedding. Uniqueness and table capacities are checked for the whole batch
+     * before anything is changed, so on failure the wedding is left as it was.
+     *
+     * @param guests The guests to add.
+     * @param tableIds The table ID of each guest.
+     * @throws DuplicatePersonException if a guest is already in the wedding or appears twice in {@code guests}.
+     * @throws TableNotFoundException if a guest's table is not in the wedding.
+     * @throws TableFullException if a table is given more guests than it has free seats.
+     */
+    public void loadGuests(List<Person> guests, int[] tableIds) {
+        requireAllNonNull(guests, tableIds);
+        checkArgument(guests.size() == tableIds.length, "Every guest needs a table ID");
+
+        Map<Integer, List<Person>> guestsByTableId = new LinkedHashMap<>();
+        Set<Person> seatedGuests = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < tableIds.length; i++) {
+            if (tableIds[i] == SeatingPlan.UNSEATED) {
+                continue;
+            }
+            if (tables().getTableById(tableIds[i]) == null) {
+                throw new TableNotFoundException();
+            }
+            guestsByTableId.computeIfAbsent(tableIds[i], unused -> new ArrayList<>()).add(guests.get(i));
+            seatedGuests.add(guests.get(i));
+        }
+        for (Map.Entry<Integer, List<Person>> entry : guestsByTableId.entrySet()) {
+            Table table = tables().getTableById(entry.getKey());
+            if (table.getSize() + entry.getValue().size() > table.getCapacity()) {
+                throw new TableFullException();
+            }
+        }
+
+        persons().addAll(guests, seatedGuests::contains);
+        for (Map.Entry<Integer, List<Person>> entry : guestsByTableId.entrySet()) {
+            Table table = tables().getTableById(entry.getKey());
+            table.addPersons(entry.getValue());
+            tables().refreshTable(table);
+            for (Person guest : entry.getValue()) {
+                seats().seat(guest.getName(), entry.getKey());
+            }
+        }
     }
 
     /**
@@ -111,7 +339,12 @@ public class Wedding {
      * @param replacement The new person list to replace the existing one.
      */
     public void setPersons(UniquePersonList replacement) {
-        this.uniquePersonList.setPersons(replacement);
+        persons().setPersons(replacement);
+        for (Person p : persons()) {
+            if (seats().isSeated(p.getName())) {
+                persons().setSeated(p, true);
+            }
+        }
     }
 
     /**
@@ -122,7 +355,7 @@ public class Wedding {
      * @throws PersonNotFoundException
      */
     public Person findPersonByName(Name name) throws PersonNotFoundException {
-        return uniquePersonList.findPersonByName(name);
+        return persons().findPersonByName(name);
     }
 
     /**
@@ -132,7 +365,45 @@ public class Wedding {
      * @return True if the person exists in the wedding's guest list, false otherwise.
      */
     public boolean hasPerson(Person person) {
-        return uniquePersonList.contains(person);
+        return persons().contains(person);
+    }
+
+    /**
+     * Returns the ID of the table the given person is seated at, or {@link SeatingPlan#UNSEATED} if they have no seat.
+     *
+     * @param person The person to look up.
+     * @return The ID of the person's table.
+     */
+    public int getTableIdOf(Person person) {
+        return seats().getTableId(person.getName());
+    }
+
+    /**
+     * Checks if the given person is seated at a table.
+     *
+     * @param person The person to check.
+     * @return True if the person is seated, false otherwise.
+     */
+    public boolean isSeated(Person person) {
+        return seats().isSeated(person.getName());
+    }
+
+    /**
+     * Returns the running totals over all guests of this wedding.
+     *
+     * @return The guest counts of the wedding.
+     */
+    public GuestCounts getGuestCounts() {
+        return persons().getGuestCounts();
+    }
+
+    /**
+     * Returns the number of guests who are not seated at any table.
+     *
+     * @return The number of unseated guests.
+     */
+    public int getUnseatedCount() {
+        return persons().size() - seats().size();
     }
 
     // =========== Tables =====================================================
@@ -143,16 +414,21 @@ public class Wedding {
      * @param table The table to add.
      */
     public void addTable(Table table) {
-        this.tableList.addTable(table);
+        tables().addTable(table);
     }
 
     /**
      * Removes a table from the wedding's seating arrangement.
+     * Guests seated at the table become unseated.
      *
      * @param table The table to delete.
      */
     public void deleteTable(Table table) {
-        tableList.deleteTable(table);
+        for (Person p : table.getAllPersons()) {
+            seats().unseat(p.getName());
+            persons().setSeated(p, false);
+        }
+        tables().deleteTable(table);
     }
 
     /**
@@ -161,7 +437,7 @@ public class Wedding {
      * @param tableId The ID of the table to delete.
      */
     public void deleteTableById(int tableId) {
-        Table table = tableList.findTableById(tableId);
+        Table table = tables().findTableById(tableId);
         deleteTable(table);
     }
 
@@ -172,7 +448,7 @@ public class Wedding {
      * @return The matching table if found.
      */
     public Table findTable(Table table) {
-        return tableList.findTable(table);
+        return tables().findTable(table);
     }
 
     /**
@@ -182,7 +458,7 @@ public class Wedding {
      * @return The table with the matching ID if found.
      */
     public Table findTableById(int tableId) {
-        return tableList.findTableById(tableId);
+        return tables().findTableById(tableId);
     }
 
     /**
@@ -192,7 +468,7 @@ public class Wedding {
      * @return True if the table exists in the wedding's seating arrangement, false otherwise.
      */
     public boolean hasTable(Table table) {
-        return tableList.contains(table);
+        return tables().contains(table);
     }
 
     /**
@@ -202,7 +478,7 @@ public class Wedding {
      * @return True if a table with the specified ID exists, false otherwise.
      */
     public boolean hasTableById(int tableId) {
-        return tableList.hasTableById(tableId);
+        return tables().hasTableById(tableId);
     }
 
     /**
@@ -212,7 +488,7 @@ public class Wedding {
      * @param editedPerson The replacement table.
      */
     public void setTable(Table target, Table editedPerson) {
-        tableList.setTable(target, editedPerson);
+        tables().setTable(target, editedPerson);
     }
 
     /**
@@ -225,15 +501,26 @@ public class Wedding {
         if (!hasPerson(p)) {
             throw new PersonNotFoundException();
         }
-
-        if (p.isSeated()) {
-            deletePersonFromTableById(p, p.getTableId());
+        Person guest = persons().findPersonByName(p.getName());
+        int oldTableId = seats().getTableId(guest.getName());
+        int newTableId = table.getTableId();
+
+        // Check before unseating the person, so a missing or full table leaves the old seat untouched
+        Table storedTable = tables().findTable(table);
+        if (storedTable == null) {
+            throw new TableNotFoundException();
+        }
+        if (storedTable.isFull() && oldTableId != newTableId) {
+            throw new TableFullException();
         }
 
-        Person seatedPerson = new Person(p, table.getTableId());
+        if (oldTableId != SeatingPlan.UNSEATED) {
+            tables().deletePersonFromTableById(guest, oldTableId);
+        }
 
-        tableList.addPersonToTable(seatedPerson, table);
-        this.uniquePersonList.setPerson(p, seatedPerson);
+        tables().addPersonToTable(guest, table);
+        seats().seat(guest.getName(), newTableId);
+        persons().setSeated(guest, true);
     }
 
     /**
@@ -258,8 +545,9 @@ public class Wedding {
         if (!hasPerson(p)) {
             throw new PersonNotFoundException();
         }
-        tableList.deletePersonFromTable(p, table);
-        this.uniquePersonList.setPerson(p, new Person(p, -1));
+        tables().deletePersonFromTable(p, table);
+        seats().unseat(p.getName());
+        persons().setSeated(p, false);
     }
 
     /**
@@ -270,7 +558,7 @@ public class Wedding {
      * @throws TableNotFoundException If no table with the specified ID exists.
      */
     public void deletePersonFromTableById(Person p, int tableId) {
-        tableList.deletePersonFromTableById(p, tableId);
+        deletePersonFromTable(p, tables().findTableById(tableId));
     }
 
     // =========== Utils ======================================================
@@ -290,23 +578,29 @@ public class Wedding {
             return false;
         }
         Wedding otherWedding = (Wedding) other;
+        if (!nameLower.equals(otherWedding.nameLower)) {
+            return false;
+        }
 
-        String weddingNameLower = name.toLowerCase();
-        String otherWeddingNameLower = otherWedding.name.toLowerCase();
-
-        return weddingNameLower.equals(otherWeddingNameLower)
-                && uniquePersonList.equals(otherWedding.uniquePersonList)
-                && tableList.equals(otherWedding.tableList);
+        Optional<CompactWedding> otherCompactForm = otherWedding.getCompactForm();
+        if (otherCompactForm.isPresent() && otherCompactForm.equals(getCompactForm())) {
+            return true; // Equal compact forms hold equal weddings, so neither wedding needs to be built
+        }
+        return persons().equals(otherWedding.persons())
+                && tables().equals(otherWedding.tables())
+                && seats().equals(otherWedding.seats());
     }
 
     /**
      * Returns the hash code for the wedding.
+     * Only the name is hashed, which is enough to tell the weddings of an address book apart, so a compacted wedding
+     * is not built to be hashed.
      *
      * @return Hash code integer.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, uniquePersonList, tableList);
+        return nameLower.hashCode();
     }
 
     /**
@@ -316,7 +610,7 @@ public class Wedding {
      */
     @Override
     public String toString() {
-        return "Wedding{name='" + name + "', people= " + uniquePersonList + '}';
+        return "Wedding{name='" + name + "', people= " + (isCompacted() ? "<compacted>" : uniquePersonList) + '}';
     }
 
     /**
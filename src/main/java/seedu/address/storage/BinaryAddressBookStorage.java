@@ -0,0 +1,380 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp;
+import seedu.address.model.wedding.SeatingPlan;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot.
+ * <p>
+ * The snapshot lives next to the data file and starts with a magic number, a format version and the number of
+ * weddings. Each wedding follows in a block of its own, made of a table of every distinct string in the wedding, such
+ * as names, phone numbers, emails, addresses and tags, and then the wedding itself, whose guests refer to those
+ * strings by their index in the table. Every string and list is prefixed with its length, and dietary restrictions
+ * and RSVP statuses are stored as the ordinals of their enums, so new constants must only ever be added at the end of
+ * those enums. Snapshots are read into memory in one go, and are checked with the same rules as the json data file. A
+ * save writes the whole snapshot to a new file and then moves it over the old one, see
+ * {@link FileUtil#writeToFileAtomically}, so the snapshot on disk is never partly written, and no buffer is left
+ * holding on to the file that the move replaces.
+ * </p>
+ * <p>
+ * A wedding's block depends on nothing but the wedding, so the block last read or written for each wedding is kept,
+ * and later saves only encode the weddings that changed. Snapshots in format version 1, which has a single string
+ * table for the whole address book ahead of the weddings, can still be read, and the next save writes version 2.
+ * </p>
+ * <p>
+ * If there is no snapshot yet, the json data file is read instead, in the format of {@link JsonAddressBookStorage},
+ * and the first save writes the snapshot. The json data file is left as it is, and {@code JsonAddressBookStorage}
+ * remains available to import and export address books as json.
+ * </p>
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every snapshot, "WHAB". */
+    public static final int MAGIC = 0x57484142;
+    public static final short FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "%s is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot format version %d is not supported.";
+    public static final String MESSAGE_DAMAGED_SNAPSHOT = "Snapshot %s is truncated or damaged.";
+    public static final String MESSAGE_INVALID_STRING = "Snapshot refers to string %d, but it has only %d strings.";
+    public static final String MESSAGE_INVALID_ORDINAL = "Snapshot has an unknown %s: %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+    private static final short SHARED_STRINGS_FORMAT_VERSION = 1;
+
+    private final Path filePath;
+
+    /** The block last read or written for each wedding, by lower-cased wedding name. */
+    private Map<String, EncodedWedding> encodedWeddings = new HashMap<>();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept for the data file at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        if (!Files.exists(snapshotPath)) {
+            logger.info("No snapshot at " + snapshotPath + ", reading json data file " + filePath);
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            List<byte[]> blocks = new ArrayList<>();
+            AddressBook addressBook = decode(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)), snapshotPath, blocks);
+            if (filePath.equals(this.filePath) && !blocks.isEmpty()) {
+                Map<String, EncodedWedding> readWeddings = new HashMap<>();
+                for (int i = 0; i < blocks.size(); i++) {
+                    Wedding wedding = addressBook.getWeddingList().get(i);
+                    readWeddings.put(wedding.getNameLower(), new EncodedWedding(wedding, blocks.get(i)));
+                }
+                encodedWeddings = readWeddings;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot " + snapshotPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in " + snapshotPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        writeSnapshot(addressBook, snapshotPath);
+    }
+
+    /**
+     * Reads the address book in the snapshot held by {@code buffer}. The weddings are decoded one after another, and
+     * checked in parallel. Errors are reported in file order: if the snapshot turns out to be damaged, an error in a
+     * wedding before the damaged part is reported instead.
+     * If the snapshot keeps each wedding in a block of its own, the blocks are added to {@code blocks} in order.
+     */
+    private static AddressBook decode(ByteBuffer buffer, Path snapshotPath, List<byte[]> blocks)
+            throws IOException, IllegalValueException {
+        ParallelWeddingReader reader = new ParallelWeddingReader();
+        try {
+            if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(String.format(MESSAGE_NOT_A_SNAPSHOT, snapshotPath));
+            }
+            short version = buffer.getShort();
+            if (version == SHARED_STRINGS_FORMAT_VERSION) {
+                String[] strings = readStrings(buffer);
+                int weddingCount = readLength(buffer);
+                for (int i = 0; i < weddingCount; i++) {
+                    reader.submit(decodeWedding(buffer, strings));
+                }
+            } else if (version == FORMAT_VERSION) {
+                int weddingCount = readLength(buffer);
+                for (int i = 0; i < weddingCount; i++) {
+                    int start = buffer.position();
+                    reader.submit(decodeWedding(buffer, readStrings(buffer)));
+                    byte[] block = new byte[buffer.position() - start];
+                    buffer.get(start, block);
+                    blocks.add(block);
+                }
+            } else {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+        } catch (BufferUnderflowException | IOException | IllegalValueException e) {
+            reader.join();
+            if (e instanceof BufferUnderflowException) {
+                throw new IOException(String.format(MESSAGE_DAMAGED_SNAPSHOT, snapshotPath), e);
+            }
+            throw e;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        reader.addTo(addressBook);
+        return addressBook;
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[readLength(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readLength(buffer)];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static JsonAdaptedWedding decodeWedding(ByteBuffer buffer, String[] strings) throws IllegalValueException {
+        String name = readString(buffer, strings);
+
+        int tableCount = readLength(buffer);
+        List<JsonAdaptedTable> tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(new JsonAdaptedTable(buffer.getInt(), buffer.getInt()));
+        }
+
+        int guestCount = readLength(buffer);
+        List<JsonAdaptedPerson> guests = new ArrayList<>(guestCount);
+        for (int i = 0; i < guestCount; i++) {
+            guests.add(decodeGuest(buffer, strings));
+        }
+        return new JsonAdaptedWedding(name, guests, tables);
+    }
+
+    private static JsonAdaptedPerson decodeGuest(ByteBuffer buffer, String[] strings) throws IllegalValueException {
+        String name = readString(buffer, strings);
+        String phone = readString(buffer, strings);
+        String email = readString(buffer, strings);
+        String address = readString(buffer, strings);
+
+        int tagCount = readLength(buffer);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(buffer, strings)));
+        }
+
+        TypicalRestriction dietaryRestriction = readOrdinal(buffer, TypicalRestriction.values(), "dietary restriction");
+        Rsvp.Status rsvp = readOrdinal(buffer, Rsvp.Status.values(), "RSVP status");
+        int tableId = buffer.getInt();
+        return new JsonAdaptedPerson(name, phone, email, address, tags, dietaryRestriction.name(), rsvp.name(),
+                SeatingPlan.toTableIdString(tableId));
+    }
+
+    /**
+     * Reads a count or length, which cannot be more than the bytes left in {@code buffer}.
+     */
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static String readString(ByteBuffer buffer, String[] strings) throws IllegalValueException {
+        int index = buffer.getInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING, index, strings.length));
+        }
+        return strings[index];
+    }
+
+    private static <E extends Enum<E>> E readOrdinal(ByteBuffer buffer, E[] values, String description)
+            throws IllegalValueException {
+        int ordinal = Byte.toUnsignedInt(buffer.get());
+        if (ordinal >= values.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ORDINAL, description, ordinal));
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Atomically replaces the snapshot at {@code snapshotPath} with a snapshot of {@code addressBook}.
+     * Only the weddings that changed since they were last read or written are encoded, so a compacted wedding that
+     * has not changed is not expanded from its compact form again.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        List<Wedding> weddings = addressBook.getWeddingList();
+        ByteBuffer[] buffers = new ByteBuffer[weddings.size() + 1];
+        buffers[0] = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + Integer.BYTES)
+                .putInt(MAGIC).putShort(FORMAT_VERSION).putInt(weddings.size()).flip();
+
+        Map<String, EncodedWedding> writtenWeddings = new HashMap<>();
+        for (int i = 0; i < weddings.size(); i++) {
+            Wedding wedding = weddings.get(i);
+            EncodedWedding encoded = encodedWeddings.get(wedding.getNameLower());
+            if (encoded == null || encoded.version != wedding.getVersion()) {
+                encoded = new EncodedWedding(wedding, encodeBlock(new JsonAdaptedWedding(wedding)));
+            }
+            buffers[i + 1] = ByteBuffer.wrap(encoded.block);
+            writtenWeddings.put(wedding.getNameLower(), encoded);
+        }
+
+        FileUtil.writeToFileAtomically(snapshotPath, buffers);
+        encodedWeddings = writtenWeddings;
+    }
+
+    /**
+     * Returns the block of {@code wedding}: its string table followed by the wedding.
+     */
+    private static byte[] encodeBlock(JsonAdaptedWedding wedding) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream weddingBytes = new ByteArrayOutputStream();
+        encodeWedding(new DataOutputStream(weddingBytes), wedding, strings);
+
+        ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+        DataOutputStream block = new DataOutputStream(blockBytes);
+        block.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            block.writeInt(bytes.length);
+            block.write(bytes);
+        }
+        weddingBytes.writeTo(block);
+        return blockBytes.toByteArray();
+    }
+
+    private static void encodeWedding(DataOutputStream out, JsonAdaptedWedding wedding, Map<String, Integer> strings)
+            throws IOException {
+        out.writeInt(indexOf(wedding.getName(), strings));
+
+        out.writeInt(wedding.getTables().size());
+        for (JsonAdaptedTable table : wedding.getTables()) {
+            out.writeInt(table.getTableId());
+            out.writeInt(table.getCapacity());
+        }
+
+        out.writeInt(wedding.getGuests().size());
+        for (JsonAdaptedPerson guest : wedding.getGuests()) {
+            encodeGuest(out, guest, strings);
+        }
+    }
+
+    private static void encodeGuest(DataOutputStream out, JsonAdaptedPerson guest, Map<String, Integer> strings)
+            throws IOException {
+        out.writeInt(indexOf(guest.getName(), strings));
+        out.writeInt(indexOf(guest.getPhone(), strings));
+        out.writeInt(indexOf(guest.getEmail(), strings));
+        out.writeInt(indexOf(guest.getAddress(), strings));
+
+        out.writeInt(guest.getTags().size());
+        for (JsonAdaptedTag tag : guest.getTags()) {
+            out.writeInt(indexOf(tag.getTagName(), strings));
+        }
+
+        out.writeByte(TypicalRestriction.valueOf(guest.getDietaryRestriction()).ordinal());
+        out.writeByte(Rsvp.Status.valueOf(guest.getRsvp()).ordinal());
+        try {
+            out.writeInt(guest.getTableId());
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("A guest in the address book has an invalid table.", ive);
+        }
+    }
+
+    /**
+     * Returns the index of {@code string} in the string table {@code strings}, adding it if it is not there yet.
+     */
+    private static int indexOf(String string, Map<String, Integer> strings) {
+        Integer index = strings.get(string);
+        if (index == null) {
+            index = strings.size();
+            strings.put(string, index);
+        }
+        return index;
+    }
+
+    /**
+     * The block of a wedding, with the version of the wedding it was read or encoded from.
+     */
+    private static class EncodedWedding {
+        private final long version;
+        private final byte[] block;
+
+        EncodedWedding(Wedding wedding, byte[] block) {
+            this.version = wedding.getVersion();
+            this.block = block;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.CompactWedding;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of later changes.
+ * <p>
+ * Instead of rewriting the whole data file after every command, each save appends one line to a journal file next to
+ * the data file, holding only what changed since the last save: the weddings that were added, the names of those that
+ * were deleted, and for each wedding that changed, the guests that were added, edited or deleted, the new order of its
+ * guests and its new tables if those changed. Editing one guest therefore journals only that guest. The line is forced
+ * to disk before the save returns. Once the journal has {@code compactionThreshold}
+ * lines, or on the first save after starting up, the journal is folded into a fresh snapshot and started again.
+ * Reading loads the snapshot and replays the journal over it.
+ * </p>
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}.
+ * </p>
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    public static final String MESSAGE_UNKNOWN_WEDDING = "The journal changes a wedding that is not in the data.";
+    public static final String MESSAGE_INVALID_GUEST_ORDER = "The journal orders guests that are not in the wedding.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String PENDING_SNAPSHOT_FILE_SUFFIX = ".compacting";
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    /** What was last written of each wedding, by lower-cased wedding name, or null before the first save. */
+    private Map<String, SavedWedding> savedWeddings;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that compacts its journal once it has
+     * {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path a new snapshot is written to before it replaces the data file at {@code filePath}.
+     */
+    static Path getPendingSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PENDING_SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            finishInterruptedCompaction(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        Map<String, JsonAdaptedWedding> weddings = new LinkedHashMap<>();
+        try {
+            if (snapshot.isPresent()) {
+                for (JsonAdaptedWedding wedding : snapshot.get().getWeddings()) {
+                    if (weddings.put(getKey(wedding), wedding) != null) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+                    }
+                }
+            }
+            replayJournal(journalPath, weddings);
+            return Optional.of(new JsonSerializableAddressBook(new ArrayList<>(weddings.values())).toModelType());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own data file are journaled; saves to any other file write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (savedWeddings == null || journalRecordCount >= compactionThreshold) {
+            writeSnapshot(addressBook, filePath);
+            savedWeddings = getSavedWeddings(addressBook, new HashMap<>());
+            journalRecordCount = 0;
+            return;
+        }
+
+        Map<String, SavedWedding> currentWeddings = getSavedWeddings(addressBook, savedWeddings);
+        JsonJournalRecord record = getChanges(addressBook, currentWeddings);
+        if (!record.isEmpty()) {
+            try {
+                appendToJournal(getJournalFilePath(filePath), record);
+            } catch (IOException ioe) {
+                savedWeddings = null; // The next save writes a snapshot, whatever the journal now holds
+                throw ioe;
+            }
+            journalRecordCount++;
+        }
+        savedWeddings = currentWeddings;
+    }
+
+    /**
+     * Returns a record of the weddings in {@code addressBook} that are new since the last save, of the changes made
+     * to the weddings that have changed since, and of the weddings that have been deleted since.
+     *
+     * @param currentWeddings what is to be saved of each wedding in {@code addressBook}.
+     */
+    private JsonJournalRecord getChanges(ReadOnlyAddressBook addressBook, Map<String, SavedWedding> currentWeddings)
+            throws IOException {
+        List<JsonAdaptedWedding> addedWeddings = new ArrayList<>();
+        List<JsonJournalChange> changedWeddings = new ArrayList<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            SavedWedding saved = savedWeddings.get(wedding.getNameLower());
+            if (saved == null || !saved.name.equals(wedding.getName())) {
+                addedWeddings.add(new JsonAdaptedWedding(wedding));
+            } else if (saved.version != wedding.getVersion()) {
+                JsonJournalChange change = currentWeddings.get(wedding.getNameLower()).getChangesSince(saved);
+                if (!change.isEmpty()) {
+                    changedWeddings.add(change);
+                }
+            }
+        }
+
+        List<String> deletedWeddings = new ArrayList<>();
+        for (String name : savedWeddings.keySet()) {
+            if (!currentWeddings.containsKey(name)) {
+                deletedWeddings.add(name);
+            }
+        }
+        return new JsonJournalRecord(addedWeddings, changedWeddings, deletedWeddings);
+    }
+
+    /**
+     * Returns what is to be saved of each wedding in {@code addressBook}, reusing those in {@code savedWeddings} for
+     * the weddings that did not change.
+     */
+    private static Map<String, SavedWedding> getSavedWeddings(ReadOnlyAddressBook addressBook,
+            Map<String, SavedWedding> savedWeddings) {
+        Map<String, SavedWedding> currentWeddings = new HashMap<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            SavedWedding saved = savedWeddings.get(wedding.getNameLower());
+            if (saved == null || saved.version != wedding.getVersion() || !saved.name.equals(wedding.getName())) {
+                saved = new SavedWedding(wedding);
+            }
+            currentWeddings.put(wedding.getNameLower(), saved);
+        }
+        return currentWeddings;
+    }
+
+    /**
+     * Appends {@code record} to the journal as one line and forces it to disk.
+     * If that fails, the journal is cut back to the length it had before, so no part of the line is left in it.
+     */
+    private static void appendToJournal(Path journalPath, JsonJournalRecord record) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long length = channel.size();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException ioe) {
+                try {
+                    channel.truncate(length);
+                } catch (IOException truncateException) {
+                    ioe.addSuppressed(truncateException);
+                }
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath} and empties its journal.
+     * <p>
+     * The snapshot is first written to a pending file and forced to disk. The journal is then deleted and the pending
+     * file moved over the data file. If this is interrupted, {@link #finishInterruptedCompaction} can tell from
+     * whether the journal still exists if the pending file is complete.
+     * </p>
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        Path pendingPath = getPendingSnapshotFilePath(filePath);
+
+        FileUtil.createIfMissing(journalPath);
+        JsonAddressBookStorage.writeAddressBook(addressBook, pendingPath);
+        Files.delete(journalPath);
+        Files.move(pendingPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.fine("Compacted journal into snapshot " + filePath);
+    }
+
+    /**
+     * Completes or discards a snapshot left behind by an interrupted {@link #writeSnapshot}.
+     */
+    private static void finishInterruptedCompaction(Path filePath) throws IOException {
+        Path pendingPath = getPendingSnapshotFilePath(filePath);
+        if (!Files.exists(pendingPath)) {
+            return;
+        }
+        if (Files.exists(getJournalFilePath(filePath))) {
+            logger.info("Discarding incomplete snapshot " + pendingPath);
+            Files.delete(pendingPath);
+        } else {
+            logger.info("Completing interrupted compaction of " + filePath);
+            Files.move(pendingPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath}, if any, to {@code weddings} in order.
+     * An unreadable last line is the remains of a save that was cut short, and is ignored.
+     */
+    private static void replayJournal(Path journalPath, Map<String, JsonAdaptedWedding> weddings)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            JsonJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    throw ioe;
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                break;
+            }
+            for (String name : record.getDeletedWeddings()) {
+                weddings.remove(name.toLowerCase());
+            }
+            for (JsonAdaptedWedding wedding : record.getSavedWeddings()) {
+                weddings.put(getKey(wedding), wedding);
+            }
+            for (JsonJournalChange change : record.getChangedWeddings()) {
+                applyChange(change, weddings);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes in {@code change} to the wedding they were made to in {@code weddings}.
+     */
+    private static void applyChange(JsonJournalChange change, Map<String, JsonAdaptedWedding> weddings)
+            throws IllegalValueException {
+        String key = change.getWedding() == null ? null : change.getWedding().toLowerCase();
+        JsonAdaptedWedding wedding = weddings.get(key);
+        if (wedding == null) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_WEDDING);
+        }
+
+        Map<String, JsonAdaptedPerson> guests = new LinkedHashMap<>();
+        for (JsonAdaptedPerson guest : wedding.getGuests()) {
+            if (guests.put(guest.getName(), guest) != null) {
+                throw new IllegalValueException(JsonAdaptedWedding.MESSAGE_DUPLICATE_GUEST);
+            }
+        }
+        for (String name : change.getDeletedGuests()) {
+            guests.remove(name);
+        }
+        for (JsonAdaptedPerson guest : change.getSavedGuests()) {
+            guests.put(guest.getName(), guest);
+        }
+
+        if (change.getGuestOrder() != null) {
+            Map<String, JsonAdaptedPerson> orderedGuests = new LinkedHashMap<>();
+            for (String name : change.getGuestOrder()) {
+                if (!guests.containsKey(name) || orderedGuests.put(name, guests.get(name)) != null) {
+                    throw new IllegalValueException(MESSAGE_INVALID_GUEST_ORDER);
+                }
+            }
+            if (orderedGuests.size() != guests.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_GUEST_ORDER);
+            }
+            guests = orderedGuests;
+        }
+
+        List<JsonAdaptedTable> tables = change.getTables() != null ? change.getTables() : wedding.getTables();
+        weddings.put(key, new JsonAdaptedWedding(wedding.getName(), new ArrayList<>(guests.values()), tables));
+    }
+
+    private static String getKey(JsonAdaptedWedding wedding) throws IllegalValueException {
+        if (wedding.getName() == null) {
+            throw new IllegalValueException(JsonAdaptedWedding.MISSING_NAME_MESSAGE);
+        }
+        return wedding.getName().toLowerCase();
+    }
+
+    /**
+     * What was last written of a wedding: its name and version, and either its compact form or its guests with their
+     * seats and its tables. A wedding that was written from its compact form only has its guests read back from that
+     * form once the wedding changes.
+     */
+    private static class SavedWedding {
+        private final String name;
+        private final long version;
+
+        private JsonCompactWedding compactForm;
+        /** The guests of the wedding in order, by full name, or null while only the compact form is known. */
+        private Map<String, Person> guests;
+        private Map<String, Integer> tableIds;
+        private List<JsonAdaptedTable> tables;
+
+        SavedWedding(Wedding wedding) {
+            name = wedding.getName();
+            version = wedding.getVersion();
+
+            Optional<CompactWedding> currentCompactForm = wedding.getCompactForm();
+            if (currentCompactForm.isPresent() && currentCompactForm.get() instanceof JsonCompactWedding) {
+                compactForm = (JsonCompactWedding) currentCompactForm.get();
+                return;
+            }
+
+            guests = new LinkedHashMap<>();
+            tableIds = new HashMap<>();
+            for (Person guest : wedding.getUniquePersonList().asUnmodifiableObservableList()) {
+                guests.put(guest.getName().fullName, guest);
+                tableIds.put(guest.getName().fullName, wedding.getTableIdOf(guest));
+            }
+            tables = new ArrayList<>();
+            for (Table table : wedding.getTableList().asUnmodifiableObservableList()) {
+                tables.add(new JsonAdaptedTable(table));
+            }
+        }
+
+        /**
+         * Reads the guests and tables of the wedding from its compact form, if that is all that is known.
+         */
+        private void readCompactForm() {
+            if (guests != null) {
+                return;
+            }
+            JsonAdaptedWedding jsonWedding = compactForm.toJsonAdaptedWedding();
+            guests = new LinkedHashMap<>();
+            tableIds = new HashMap<>();
+            try {
+                for (JsonAdaptedPerson guest : jsonWedding.getGuests()) {
+                    guests.put(guest.getName(), guest.toModelType());
+                    tableIds.put(guest.getName(), guest.getTableId());
+                }
+            } catch (IllegalValueException ive) {
+                throw new IllegalStateException("A compact wedding holds an invalid wedding.", ive);
+            }
+            tables = jsonWedding.getTables();
+            compactForm = null;
+        }
+
+        /**
+         * Returns the changes that turn {@code saved}, an earlier save of the same wedding, into this one.
+         */
+        JsonJournalChange getChangesSince(SavedWedding saved) throws IOException {
+            readCompactForm();
+            saved.readCompactForm();
+
+            List<String> deletedGuests = new ArrayList<>();
+            List<String> expectedOrder = new ArrayList<>();
+            for (String guestName : saved.guests.keySet()) {
+                if (guests.containsKey(guestName)) {
+                    expectedOrder.add(guestName);
+                } else {
+                    deletedGuests.add(guestName);
+                }
+            }
+
+            List<JsonAdaptedPerson> savedGuests = new ArrayList<>();
+            for (Map.Entry<String, Person> guest : guests.entrySet()) {
+                int tableId = tableIds.get(guest.getKey());
+                if (!saved.guests.containsKey(guest.getKey())) {
+                    expectedOrder.add(guest.getKey());
+                } else if (guest.getValue().equals(saved.guests.get(guest.getKey()))
+                        && tableId == saved.tableIds.get(guest.getKey())) {
+                    continue;
+                }
+                savedGuests.add(new JsonAdaptedPerson(guest.getValue(), tableId));
+            }
+
+            List<String> order = new ArrayList<>(guests.keySet());
+            boolean isTablesChanged = !JsonUtil.toCompactJsonString(tables)
+                    .equals(JsonUtil.toCompactJsonString(saved.tables));
+            return new JsonJournalChange(name, savedGuests, deletedGuests,
+                    order.equals(expectedOrder) ? null : order, isTablesChanged ? tables : null);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Rsvp;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.SeatingPlan;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -63,9 +64,16 @@ class JsonAdaptedPerson {
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given unseated {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, SeatingPlan.UNSEATED);
+    }
+
+    /**
+     * Converts a given {@code Person} seated at the table with ID {@code tableId} into this class for Jackson use.
+     */
+    public JsonAdaptedPerson(Person source, int tableId) {
         this.name = source.getName().fullName;
         this.phone = source.getPhone().value;
         this.email = source.getEmail().value;
@@ -75,7 +83,35 @@ class JsonAdaptedPerson {
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList()));
         this.rsvp = source.getRsvp().toString();
-        this.table = source.getTableIdString();
+        this.table = SeatingPlan.toTableIdString(tableId);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    List<JsonAdaptedTag> getTags() {
+        return tags;
+    }
+
+    String getDietaryRestriction() {
+        return dietaryRestriction;
+    }
+
+    String getRsvp() {
+        return rsvp;
     }
 
     /**
@@ -146,13 +182,24 @@ class JsonAdaptedPerson {
         }
         final Rsvp modelRsvp = new Rsvp(statusEnum);
 
-        int tableId = -1;
-        if (!table.equals("Unassigned")) {
-            tableId = Integer.parseInt(table);
-        }
-
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags,
-            modelDietaryRestriction, modelRsvp, tableId);
+            modelDietaryRestriction, modelRsvp);
+    }
+
+    /**
+     * Returns the ID of the table this guest is seated at, or {@link SeatingPlan#UNSEATED} if they have no seat.
+     *
+     * @throws IllegalValueException if the table field is not a table ID.
+     */
+    public int getTableId() throws IllegalValueException {
+        if (table == null || table.equals(SeatingPlan.UNSEATED_LABEL)) {
+            return SeatingPlan.UNSEATED;
+        }
+        try {
+            return Integer.parseInt(table);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException("Invalid table ID: " + table);
+        }
     }
 
     @Override
@@ -38,12 +38,26 @@ public class JsonAdaptedTable {
         this.capacity = source.getCapacity();
     }
 
+    int getTableId() {
+        return tableId;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Table} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted table.
      */
     public Table toModelType() throws IllegalValueException {
+        if (!Table.isValidTableId(tableId)) {
+            throw new IllegalValueException(Table.ID_CONSTRAINTS);
+        }
+        if (capacity <= 0) {
+            throw new IllegalValueException(Table.CAPACITY_CONSTRAINTS);
+        }
         UniquePersonList personList = new UniquePersonList();
 
         Table table = new Table(tableId, capacity, personList);
@@ -1,7 +1,14 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,10 +16,19 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.CompactWedding;
+import seedu.address.model.wedding.SeatingPlan;
 import seedu.address.model.wedding.Wedding;
 
 class JsonAdaptedWedding {
 
+    public static final String MISSING_NAME_MESSAGE = "Wedding's name field is missing!";
+    public static final String MESSAGE_DUPLICATE_TABLE = "Wedding's tables contain duplicate table ID(s).";
+    public static final String MESSAGE_DUPLICATE_GUEST = "Wedding's guest list contains duplicate guest(s).";
+    public static final String MESSAGE_TABLE_NOT_FOUND = "A guest is seated at a table that is not in the wedding.";
+    public static final String MESSAGE_TABLE_FULL = "A table has more guests than its capacity.";
+
     private final String name;
     private final List<JsonAdaptedPerson> guests;
     private final List<JsonAdaptedTable> tables;
@@ -26,12 +42,24 @@ class JsonAdaptedWedding {
         this.tables = (tables != null) ? tables : new ArrayList<>();
     }
 
+    /**
+     * Converts a given {@code Wedding} into this class for Jackson use.
+     * A wedding with an up-to-date compact form is converted from that form, without building its guests and tables.
+     */
     public JsonAdaptedWedding(Wedding source) {
         this.name = source.getName();
 
+        Optional<CompactWedding> compactForm = source.getCompactForm();
+        if (compactForm.isPresent() && compactForm.get() instanceof JsonCompactWedding) {
+            JsonAdaptedWedding compacted = ((JsonCompactWedding) compactForm.get()).toJsonAdaptedWedding();
+            this.guests = compacted.guests;
+            this.tables = compacted.tables;
+            return;
+        }
+
         // Convert all guests from RsvpList
         this.guests = source.getUniquePersonList().asUnmodifiableObservableList().stream()
-                .map(JsonAdaptedPerson::new)
+                .map(person -> new JsonAdaptedPerson(person, source.getTableIdOf(person)))
                 .collect(Collectors.toList());
 
         // Convert all tables from TableList
@@ -41,28 +69,129 @@ class JsonAdaptedWedding {
 
     }
 
+    /**
+     * Returns the name of the wedding, which may be null if the field was missing.
+     */
+    String getName() {
+        return name;
+    }
+
+    List<JsonAdaptedPerson> getGuests() {
+        return guests;
+    }
+
+    List<JsonAdaptedTable> getTables() {
+        return tables;
+    }
+
+    int getGuestCount() {
+        return guests.size();
+    }
+
+    int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Checks that this wedding converts to a valid model {@code Wedding}, and returns it as a compacted
+     * {@code Wedding} whose guests and tables are only built when first used.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Wedding toCompactModelType() throws IllegalValueException {
+        checkIsValid();
+        try {
+            return new Wedding(name, JsonCompactWedding.of(this));
+        } catch (IOException ioe) {
+            throw new IllegalStateException("A valid wedding could not be compacted.", ioe);
+        }
+    }
+
+    /**
+     * Similar to {@link #toCompactModelType()}, but keeps {@code compactJson}, the single-line JSON this wedding was
+     * read from, as the compact form instead of writing this wedding out again.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Wedding toCompactModelType(byte[] compactJson) throws IllegalValueException {
+        checkIsValid();
+        return new Wedding(name, JsonCompactWedding.ofJson(compactJson));
+    }
+
     public Wedding toModelType() throws IllegalValueException {
+        CheckedWedding checked = checkIsValid();
         Wedding wedding = new Wedding(name);
+        wedding.getTableList().setTables(checked.tables);
+        wedding.loadGuests(checked.guests, checked.tableIds);
+        return wedding;
+    }
 
-        // Restore tables
+    /**
+     * Checks that this wedding converts to a valid model {@code Wedding}, and returns its tables and guests, with
+     * the table of each guest, as model objects that pass every check of {@link Wedding#loadGuests}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private CheckedWedding checkIsValid() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(MISSING_NAME_MESSAGE);
+        }
+
+        List<Table> modelTables = new ArrayList<>(tables.size());
         for (JsonAdaptedTable jTable : tables) {
-            wedding.getTableList().addTable(jTable.toModelType());
+            modelTables.add(jTable.toModelType());
+        }
+        Map<Integer, Integer> capacityByTableId = new HashMap<>();
+        for (Table table : modelTables) {
+            if (capacityByTableId.put(table.getTableId(), table.getCapacity()) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TABLE);
+            }
+        }
+
+        List<Person> modelGuests = new ArrayList<>(guests.size());
+        int[] tableIds = new int[guests.size()];
+        for (int i = 0; i < guests.size(); i++) {
+            modelGuests.add(guests.get(i).toModelType());
+            tableIds[i] = guests.get(i).getTableId();
+        }
+
+        Map<Integer, Integer> seatedCountByTableId = new LinkedHashMap<>();
+        for (int tableId : tableIds) {
+            if (tableId == SeatingPlan.UNSEATED) {
+                continue;
+            }
+            if (!capacityByTableId.containsKey(tableId)) {
+                throw new IllegalValueException(MESSAGE_TABLE_NOT_FOUND);
+            }
+            seatedCountByTableId.merge(tableId, 1, Integer::sum);
+        }
+        for (Map.Entry<Integer, Integer> entry : seatedCountByTableId.entrySet()) {
+            if (entry.getValue() > capacityByTableId.get(entry.getKey())) {
+                throw new IllegalValueException(MESSAGE_TABLE_FULL);
+            }
         }
 
-        // Restore guests
-        for (JsonAdaptedPerson jGuest : guests) {
-            Person person = jGuest.toModelType();
-            Person newPerson = new Person(person, -1);
-            int tId = person.getTableId();
-
-            if (tId > -1) {
-                wedding.addPerson(newPerson);
-                wedding.addPersonToTableById(newPerson, tId);
-            } else {
-                wedding.addPerson(person);
+        Set<String> guestKeys = new HashSet<>();
+        for (Person guest : modelGuests) {
+            if (!guestKeys.add(guest.getName().toKey())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_GUEST);
             }
         }
+        return new CheckedWedding(modelTables, modelGuests, tableIds);
+    }
 
-        return wedding;
+    /**
+     * The tables and guests of a wedding that passed {@link #checkIsValid()}, with the ID of each guest's table.
+     */
+    private static class CheckedWedding {
+        private final List<Table> tables;
+        private final List<Person> guests;
+        private final int[] tableIds;
+
+        CheckedWedding(List<Table> tables, List<Person> guests, int[] tableIds) {
+            this.tables = tables;
+            this.guests = guests;
+            this.tableIds = tableIds;
+        }
     }
 }
@@ -3,28 +3,56 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonEncoding;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file is read as a stream, one wedding at a time, so neither the whole file nor the whole JSON tree is ever held
+ * in memory. Saves to the storage's own file keep the serialized json of each wedding, and only serialize again the
+ * weddings that changed since the last save. The file is never written in place: it is replaced atomically by a
+ * complete copy that has been forced to disk, and saves that would not change it skip the disk entirely. The file has
+ * the format of {@link JsonSerializableAddressBook}, saved pretty-printed, compact or gzip-compressed as chosen by its
+ * {@link JsonEncoding}. The encoding of a file is detected when it is read.
+ * </p>
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String WEDDINGS_FIELD = "weddings";
+
     private Path filePath;
+    private final JsonWeddingSegments segments;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, JsonEncoding.PRETTY);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that saves it in the given {@code encoding}.
+     * Files in any encoding can be read.
+     */
+    public JsonAddressBookStorage(Path filePath, JsonEncoding encoding) {
         this.filePath = filePath;
+        this.segments = new JsonWeddingSegments(encoding);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +73,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream file = Files.newInputStream(filePath);
+             InputStream in = JsonEncoding.decode(file);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(parseAddressBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.severe(ive.toString());
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
@@ -74,11 +106,62 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        if (filePath.equals(this.filePath)) {
+            segments.write(addressBook, filePath);
+        } else {
+            writeAddressBook(addressBook, filePath);
+        }
     }
 
+    /**
+     * Reads an address book from {@code parser}, handing each wedding to be converted to the model in parallel as soon
+     * as it has been read. Errors are reported in file order: if the file turns out to be malformed, an error in a
+     * wedding before the malformed part is reported instead.
+     */
+    private static AddressBook parseAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        ParallelWeddingReader reader = new ParallelWeddingReader();
+        try {
+            readWeddings(parser, reader);
+        } catch (IOException ioe) {
+            reader.join();
+            throw ioe;
+        }
 
+        AddressBook addressBook = new AddressBook();
+        reader.addTo(addressBook);
+        return addressBook;
+    }
 
+    /**
+     * Reads the weddings from {@code parser} and submits them to {@code reader}.
+     */
+    private static void readWeddings(JsonParser parser, ParallelWeddingReader reader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object.");
+        }
 
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!WEDDINGS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the weddings to be a JSON array.");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                reader.submit(parser.readValueAs(JsonAdaptedWedding.class));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, serializing its weddings in parallel.
+     * The file is replaced atomically with contents that have already been forced to disk.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        new JsonWeddingSegments().write(addressBook, filePath);
+    }
 }
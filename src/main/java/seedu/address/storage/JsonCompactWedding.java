@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.wedding.CompactWedding;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A {@link CompactWedding} that holds a wedding as the UTF-8 bytes of its single-line JSON.
+ * The JSON has been checked to convert to a valid {@code Wedding} when the compact form is made.
+ */
+class JsonCompactWedding implements CompactWedding {
+
+    private final byte[] json;
+
+    private JsonCompactWedding(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * Returns a compact form of the wedding in {@code source}, which must convert to a valid {@code Wedding}.
+     */
+    static JsonCompactWedding of(JsonAdaptedWedding source) throws IOException {
+        requireNonNull(source);
+        return new JsonCompactWedding(JsonUtil.toCompactJsonString(source).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a compact form holding {@code json} as it is, without copying it. {@code json} must be the single-line
+     * JSON of a wedding that converts to a valid {@code Wedding}, as written by {@link JsonUtil#toCompactJsonString}.
+     */
+    static JsonCompactWedding ofJson(byte[] json) {
+        requireNonNull(json);
+        return new JsonCompactWedding(json);
+    }
+
+    /**
+     * Returns true if {@code json}, which was written by {@link JsonUtil}, is single-line JSON.
+     * Pretty-printed JSON always has a line break, and line breaks inside strings are always escaped.
+     */
+    static boolean isSingleLine(byte[] json) {
+        for (byte b : json) {
+            if (b == '\n') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the single-line JSON of the wedding held in this compact form, without copying it.
+     */
+    ByteBuffer getJson() {
+        return ByteBuffer.wrap(json).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the JSON of the wedding held in this compact form to {@code generator} as its next value, laid out as
+     * {@code generator} lays out values, without building the wedding or its Jackson-friendly version.
+     */
+    void copyTo(JsonGenerator generator) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json))) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Returns the wedding held in this compact form, in its Jackson-friendly version.
+     */
+    JsonAdaptedWedding toJsonAdaptedWedding() {
+        try {
+            return JsonUtil.fromJsonString(new String(json, StandardCharsets.UTF_8), JsonAdaptedWedding.class);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("A compact wedding could not be read back.", ioe);
+        }
+    }
+
+    @Override
+    public Wedding expand() {
+        try {
+            return toJsonAdaptedWedding().toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("A compact wedding holds an invalid wedding.", ive);
+        }
+    }
+
+    @Override
+    public CompactWedding compact(Wedding wedding) {
+        try {
+            return of(new JsonAdaptedWedding(wedding));
+        } catch (IOException ioe) {
+            throw new IllegalStateException("A wedding could not be compacted.", ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof JsonCompactWedding)) {
+            return false;
+        }
+        return Arrays.equals(json, ((JsonCompactWedding) other).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(json);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The changes made to one wedding since it was last saved, as held in a {@link JsonJournalRecord}.
+ * It holds the guests that were added or edited, the names of the guests that were deleted, the new order of the
+ * guests if it changed other than by adding guests at the end, and the new tables if they changed.
+ */
+class JsonJournalChange {
+
+    private final String wedding;
+    private final List<JsonAdaptedPerson> savedGuests = new ArrayList<>();
+    private final List<String> deletedGuests = new ArrayList<>();
+    private final List<String> guestOrder;
+    private final List<JsonAdaptedTable> tables;
+
+    /**
+     * Constructs a {@code JsonJournalChange} with the given details.
+     * {@code guestOrder} and {@code tables} are null if they did not change.
+     */
+    @JsonCreator
+    public JsonJournalChange(@JsonProperty("wedding") String wedding,
+                             @JsonProperty("savedGuests") List<JsonAdaptedPerson> savedGuests,
+                             @JsonProperty("deletedGuests") List<String> deletedGuests,
+                             @JsonProperty("guestOrder") List<String> guestOrder,
+                             @JsonProperty("tables") List<JsonAdaptedTable> tables) {
+        this.wedding = wedding;
+        if (savedGuests != null) {
+            this.savedGuests.addAll(savedGuests);
+        }
+        if (deletedGuests != null) {
+            this.deletedGuests.addAll(deletedGuests);
+        }
+        this.guestOrder = guestOrder;
+        this.tables = tables;
+    }
+
+    /** Returns the name of the changed wedding, which may be null if the field was missing. */
+    String getWedding() {
+        return wedding;
+    }
+
+    List<JsonAdaptedPerson> getSavedGuests() {
+        return savedGuests;
+    }
+
+    List<String> getDeletedGuests() {
+        return deletedGuests;
+    }
+
+    /** Returns the names of all the guests in their new order, or null if the order did not change. */
+    List<String> getGuestOrder() {
+        return guestOrder;
+    }
+
+    /** Returns all the tables of the wedding, or null if they did not change. */
+    List<JsonAdaptedTable> getTables() {
+        return tables;
+    }
+
+    boolean isEmpty() {
+        return savedGuests.isEmpty() && deletedGuests.isEmpty() && guestOrder == null && tables == null;
+    }
+}
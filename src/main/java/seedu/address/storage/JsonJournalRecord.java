@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One line of the address book journal, written for each command that changed the address book.
+ * It holds the full contents of every wedding that was added by the command, the changes made to each wedding that
+ * was changed, and the names of the weddings that were deleted.
+ */
+class JsonJournalRecord {
+
+    private final List<JsonAdaptedWedding> savedWeddings = new ArrayList<>();
+    private final List<JsonJournalChange> changedWeddings = new ArrayList<>();
+    private final List<String> deletedWeddings = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given saved weddings, changed weddings and deleted wedding names.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("savedWeddings") List<JsonAdaptedWedding> savedWeddings,
+                             @JsonProperty("changedWeddings") List<JsonJournalChange> changedWeddings,
+                             @JsonProperty("deletedWeddings") List<String> deletedWeddings) {
+        if (savedWeddings != null) {
+            this.savedWeddings.addAll(savedWeddings);
+        }
+        if (changedWeddings != null) {
+            this.changedWeddings.addAll(changedWeddings);
+        }
+        if (deletedWeddings != null) {
+            this.deletedWeddings.addAll(deletedWeddings);
+        }
+    }
+
+    List<JsonAdaptedWedding> getSavedWeddings() {
+        return savedWeddings;
+    }
+
+    List<JsonJournalChange> getChangedWeddings() {
+        return changedWeddings;
+    }
+
+    List<String> getDeletedWeddings() {
+        return deletedWeddings;
+    }
+
+    boolean isEmpty() {
+        return savedWeddings.isEmpty() && changedWeddings.isEmpty() && deletedWeddings.isEmpty();
+    }
+}
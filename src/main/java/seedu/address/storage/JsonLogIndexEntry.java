@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly description of the log that holds one wedding, as listed in the index of a
+ * {@link LogStructuredAddressBookStorage}.
+ */
+class JsonLogIndexEntry {
+
+    private final String name;
+    private final String file;
+
+    /**
+     * Constructs a {@code JsonLogIndexEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonLogIndexEntry(@JsonProperty("name") String name, @JsonProperty("file") String file) {
+        this.name = name;
+        this.file = file;
+    }
+
+    /** Returns the name of the wedding in the log. */
+    String getName() {
+        return name;
+    }
+
+    /** Returns the name of the log file, relative to the store folder. */
+    String getFile() {
+        return file;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -40,6 +41,13 @@ class JsonSerializableAddressBook {
         weddings.addAll(source.getWeddingList().stream().map(JsonAdaptedWedding::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the weddings of this address book, in order.
+     */
+    List<JsonAdaptedWedding> getWeddings() {
+        return weddings;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -55,13 +63,15 @@ class JsonSerializableAddressBook {
             addressBook.deleteWedding(wedding);
         }
 
-        // Add all weddings from JSON
+        // Add all weddings from JSON, converted in parallel but checked in order
+        ParallelWeddingReader reader = new ParallelWeddingReader();
         for (JsonAdaptedWedding jsonAdaptedWedding : weddings) {
-            Wedding wedding = jsonAdaptedWedding.toModelType();
-            if (addressBook.hasWedding(wedding)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_WEDDING);
-            }
-            addressBook.addWedding(wedding);
+            reader.submit(jsonAdaptedWedding);
+        }
+        try {
+            reader.addTo(addressBook);
+        } catch (IOException ioe) {
+            throw new AssertionError("Converting weddings does not read any files.", ioe);
         }
 
         //If there are no weddings in the JSON but we removed the default wedding,
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly description of one wedding's shard file, as listed in a {@link JsonShardManifest}.
+ */
+class JsonShardEntry {
+
+    private final String name;
+    private final String file;
+    private final int guests;
+    private final int tables;
+    private final long bytes;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code JsonShardEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonShardEntry(@JsonProperty("name") String name, @JsonProperty("file") String file,
+                          @JsonProperty("guests") int guests, @JsonProperty("tables") int tables,
+                          @JsonProperty("bytes") long bytes, @JsonProperty("checksum") long checksum) {
+        this.name = name;
+        this.file = file;
+        this.guests = guests;
+        this.tables = tables;
+        this.bytes = bytes;
+        this.checksum = checksum;
+    }
+
+    /** Returns the name of the wedding in the shard. */
+    String getName() {
+        return name;
+    }
+
+    /** Returns the name of the shard file, relative to the shard folder. */
+    String getFile() {
+        return file;
+    }
+
+    /** Returns the number of guests of the wedding. */
+    int getGuests() {
+        return guests;
+    }
+
+    /** Returns the number of tables of the wedding. */
+    int getTables() {
+        return tables;
+    }
+
+    /** Returns the length of the shard file in bytes. */
+    long getBytes() {
+        return bytes;
+    }
+
+    /** Returns the CRC-32 checksum of the shard file. */
+    long getChecksum() {
+        return checksum;
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly list of the shard files that together hold an address book, one per wedding, in wedding order.
+ */
+class JsonShardManifest {
+
+    private final List<JsonShardEntry> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shards.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shards") List<JsonShardEntry> shards) {
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    List<JsonShardEntry> getShards() {
+        return shards;
+    }
+}
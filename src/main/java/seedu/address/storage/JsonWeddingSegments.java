@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonEncoding;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Writes address books in the format of {@link JsonSerializableAddressBook}, keeping the serialized json of each
+ * wedding so that later writes only serialize the weddings that changed.
+ * <p>
+ * Each wedding is serialized on its own into a segment that holds exactly the bytes the generator writes for it
+ * inside the weddings array, so the file can be put together from the segments without reformatting them. Weddings
+ * that changed since the last write are serialized in parallel, and the file is then written with one gathering
+ * write of all the segments. With the {@link JsonEncoding#GZIP} encoding, every segment is compressed on its own as
+ * one member of a multi-member gzip file, so unchanged weddings are not compressed again either.
+ * </p>
+ * <p>
+ * A wedding with an up-to-date compact form already has its json in memory, and is written from it without being
+ * built. With the {@link JsonEncoding#COMPACT} encoding, that json is the segment, so it is not copied. With the
+ * {@link JsonEncoding#PRETTY} encoding, the segment of a compacted wedding would be a second, larger copy of its json,
+ * so it is not kept; the json is laid out again on each write, without parsing it into objects. With the
+ * {@link JsonEncoding#GZIP} encoding, the segment is compressed and much smaller than the json, so it is kept.
+ * </p>
+ * <p>
+ * The file is replaced atomically, see {@link FileUtil#writeToFileAtomically}. A hash of the contents last written
+ * lets a write of the same contents to the same file skip the disk, and the cost of forcing it there, entirely.
+ * </p>
+ */
+class JsonWeddingSegments {
+
+    private static final String WEDDINGS_FIELD = "weddings";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final JsonEncoding encoding;
+    private final ByteBuffer header;
+    private final ByteBuffer separator;
+    private final ByteBuffer footer;
+
+    /** The segment last serialized for each wedding that is kept, by lower-cased wedding name. */
+    private Map<String, Segment> segments = new HashMap<>();
+    private Path writtenFilePath;
+    private long writtenLength;
+    private byte[] writtenHash;
+
+    JsonWeddingSegments() {
+        this(JsonEncoding.PRETTY);
+    }
+
+    JsonWeddingSegments(JsonEncoding encoding) {
+        requireNonNull(encoding);
+        this.encoding = encoding;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator generator = JsonUtil.createGenerator(out, encoding.isPretty());
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(WEDDINGS_FIELD);
+            generator.flush();
+            int headerLength = out.size();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+
+            byte[] bytes = out.toByteArray();
+            header = encode(bytes, 0, headerLength);
+            separator = encode(",".getBytes(StandardCharsets.UTF_8), 0, 1);
+            footer = encode(bytes, headerLength, bytes.length - headerLength);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("The json around the weddings could not be written.", ioe);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, serializing only the weddings that changed since the last write
+     * through this object.
+     */
+    void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        List<Wedding> weddings = addressBook.getWeddingList();
+        Segment[] currentSegments = new Segment[weddings.size()];
+        List<Integer> dirtyIndices = new ArrayList<>();
+        for (int i = 0; i < weddings.size(); i++) {
+            Segment segment = segments.get(weddings.get(i).getNameLower());
+            if (segment != null && segment.version == weddings.get(i).getVersion()) {
+                currentSegments[i] = segment;
+            } else {
+                dirtyIndices.add(i);
+            }
+        }
+
+        try {
+            dirtyIndices.parallelStream().forEach(i -> currentSegments[i] = serialize(weddings.get(i)));
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+
+        ByteBuffer[] buffers = new ByteBuffer[2 * currentSegments.length + 2];
+        int count = 0;
+        buffers[count++] = header.duplicate();
+        for (int i = 0; i < currentSegments.length; i++) {
+            if (i > 0) {
+                buffers[count++] = separator.duplicate();
+            }
+            buffers[count++] = currentSegments[i].json.duplicate();
+        }
+        buffers[count++] = footer.duplicate();
+
+        buffers = Arrays.copyOf(buffers, count);
+
+        long length = 0;
+        MessageDigest digest = newDigest();
+        for (ByteBuffer buffer : buffers) {
+            length += buffer.remaining();
+            digest.update(buffer.duplicate());
+        }
+        byte[] hash = digest.digest();
+        if (!isWritten(filePath, length, hash)) {
+            FileUtil.writeToFileAtomically(filePath, buffers);
+            writtenFilePath = filePath;
+            writtenLength = length;
+            writtenHash = hash;
+        }
+
+        Map<String, Segment> writtenSegments = new HashMap<>();
+        for (int i = 0; i < weddings.size(); i++) {
+            if (encoding != JsonEncoding.PRETTY || !weddings.get(i).isCompacted()) {
+                writtenSegments.put(weddings.get(i).getNameLower(), currentSegments[i]);
+            }
+        }
+        segments = writtenSegments;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} still holds the contents last written through this object, and
+     * those have the given {@code length} and {@code hash}.
+     */
+    private boolean isWritten(Path filePath, long length, byte[] hash) throws IOException {
+        return filePath.equals(writtenFilePath) && length == writtenLength && Arrays.equals(hash, writtenHash)
+                && Files.isRegularFile(filePath) && Files.size(filePath) == length;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available.", nsae);
+        }
+    }
+
+    /**
+     * Returns the bytes the generator writes for {@code wedding} as the first value of the weddings array, in this
+     * object's encoding.
+     */
+    private Segment serialize(Wedding wedding) {
+        Optional<JsonCompactWedding> compactForm = wedding.getCompactForm()
+                .filter(form -> form instanceof JsonCompactWedding).map(JsonCompactWedding.class::cast);
+        if (compactForm.isPresent() && encoding == JsonEncoding.COMPACT) {
+            return new Segment(wedding.getVersion(), compactForm.get().getJson());
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator generator = JsonUtil.createGenerator(out, encoding.isPretty());
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(WEDDINGS_FIELD);
+            generator.flush();
+            int start = out.size();
+            if (compactForm.isPresent()) {
+                compactForm.get().copyTo(generator);
+            } else {
+                generator.writeObject(new JsonAdaptedWedding(wedding));
+            }
+            generator.flush();
+
+            byte[] bytes = out.toByteArray();
+            return new Segment(wedding.getVersion(), encode(bytes, start, bytes.length - start));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns the given bytes of json in this object's encoding, as a gzip member of their own if it compresses.
+     */
+    private ByteBuffer encode(byte[] json, int offset, int length) throws IOException {
+        if (encoding != JsonEncoding.GZIP) {
+            return ByteBuffer.wrap(json, offset, length).slice();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json, offset, length);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /**
+     * The serialized json of a wedding, with the version of the wedding it was serialized from.
+     */
+    private static class Segment {
+        private final long version;
+        private final ByteBuffer json;
+
+        Segment(long version, ByteBuffer json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * One record in a log kept by {@link LogStructuredAddressBookStorage}.
+ * <p>
+ * A record is a key and a value of bytes, with a type that says what to do with them. On disk it is laid out as the
+ * CRC-32 checksum of everything after it, the type, and the key and the value, each prefixed with its length.
+ * </p>
+ */
+class LogRecord {
+
+    /**
+     * What a record does when the log is replayed.
+     */
+    enum Type {
+        /** Sets the guest whose name is the key to the guest held in the value. */
+        PUT_GUEST,
+        /** Removes the guest whose name is the key. */
+        DELETE_GUEST,
+        /** Sets the order of the guests to the list of names held in the value. */
+        ORDER_GUESTS,
+        /** Sets the tables of the wedding to the list held in the value. */
+        PUT_TABLES,
+        /** Sets the weddings of the address book, and the logs that hold them, to the list held in the value. */
+        PUT_WEDDINGS,
+        /** Ends a batch of records written by one save, which only take effect together once this record is read. */
+        COMMIT
+    }
+
+    /** Number of bytes in a record besides its key and value. */
+    static final int OVERHEAD = Integer.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final Type type;
+    private final String key;
+    private final byte[] value;
+
+    LogRecord(Type type, String key, byte[] value) {
+        requireAllNonNull(type, key, value);
+        this.type = type;
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Returns a record that ends the batch of records before it.
+     */
+    static LogRecord commit() {
+        return new LogRecord(Type.COMMIT, "", new byte[0]);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    byte[] getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the bytes of this record as laid out on disk.
+     */
+    byte[] encode() {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(OVERHEAD + keyBytes.length + value.length);
+        buffer.position(Integer.BYTES);
+        buffer.put((byte) type.ordinal());
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        buffer.putInt(value.length);
+        buffer.put(value);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), Integer.BYTES, buffer.capacity() - Integer.BYTES);
+        buffer.putInt(0, (int) checksum.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Reads the record at the position of {@code buffer}, and moves the position past it.
+     * Returns null, and leaves the position where it was, if the bytes left do not hold a whole record or the record
+     * does not match its checksum.
+     */
+    static LogRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            int storedChecksum = buffer.getInt();
+            int typeOrdinal = Byte.toUnsignedInt(buffer.get());
+            byte[] keyBytes = new byte[readLength(buffer)];
+            buffer.get(keyBytes);
+            byte[] value = new byte[readLength(buffer)];
+            buffer.get(value);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate().position(start + Integer.BYTES).limit(buffer.position()));
+            if ((int) checksum.getValue() != storedChecksum || typeOrdinal >= Type.values().length) {
+                buffer.position(start);
+                return null;
+            }
+            return new LogRecord(Type.values()[typeOrdinal], new String(keyBytes, StandardCharsets.UTF_8), value);
+        } catch (BufferUnderflowException e) {
+            buffer.position(start);
+            return null;
+        }
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of bytes this record takes on disk.
+     */
+    int getSize() {
+        return OVERHEAD + key.getBytes(StandardCharsets.UTF_8).length + value.length;
+    }
+}
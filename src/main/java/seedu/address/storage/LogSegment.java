@@ -0,0 +1,366 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An append-only log of {@link LogRecord}s in one file, with a key directory of where the latest value of each guest
+ * is in the file.
+ * <p>
+ * The key directory is kept in the order of the guests, and is built by replaying the log when it is opened. After
+ * that, the latest value of any guest can be read from the file without replaying it again. Records are only ever
+ * added at the end of the file, and each append is forced to disk. Records that have been replaced are left in the
+ * file until the log is merged into a new one.
+ * </p>
+ * <p>
+ * The records of each append end with a {@link LogRecord.Type#COMMIT commit} record, and replaying the log drops the
+ * records after the last commit, so an append that was cut short leaves none of its records applied. A log with no
+ * commit at all was written before commits were added, and all its whole records are replayed.
+ * </p>
+ */
+class LogSegment {
+
+    public static final String MESSAGE_CORRUPT_RECORD = "Log %s has an unreadable record at byte %d that is followed "
+            + "by more records.";
+
+    private static final Logger logger = LogsCenter.getLogger(LogSegment.class);
+
+    private static final long UNKNOWN_LENGTH = -1;
+
+    private final Path path;
+    /** The number of bytes at the start of the file that hold whole, committed records. */
+    private long size;
+    /**
+     * The length the file had when it was last read or written, which may be more than {@link #size} if it ends in
+     * an incomplete or uncommitted record, or {@link #UNKNOWN_LENGTH} after a failed append.
+     */
+    private long fileLength;
+
+    private final Map<String, Entry> keyDirectory = new LinkedHashMap<>();
+    private byte[] tables = new byte[0];
+    private long tablesRecordSize;
+    private long orderRecordSize;
+    private byte[] weddings = new byte[0];
+    private long weddingsRecordSize;
+
+    private LogSegment(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Replays the log held in {@code contents}, which were read from the file at {@code path}.
+     * The records after the last commit, and an unreadable record that no readable record follows, are those of an
+     * append that was cut short. They are ignored, and are overwritten by the next append.
+     *
+     * @throws IllegalValueException if an unreadable record is followed by a readable one, as the log is then damaged
+     *     and replaying only the records before it would lose those after it.
+     */
+    static LogSegment replay(Path path, byte[] contents) throws IllegalValueException {
+        requireNonNull(path);
+        LogSegment segment = new LogSegment(path);
+        ByteBuffer buffer = ByteBuffer.wrap(contents);
+        List<LogRecord> batch = new ArrayList<>();
+        boolean hasCommit = false;
+        LogRecord record;
+        while ((record = LogRecord.decode(buffer)) != null) {
+            batch.add(record);
+            if (record.getType() == LogRecord.Type.COMMIT) {
+                segment.applyAll(batch);
+                batch.clear();
+                hasCommit = true;
+            }
+        }
+        if (buffer.hasRemaining()) {
+            checkIsTornTail(path, buffer);
+            logger.warning("Ignoring " + buffer.remaining() + " unreadable bytes at the end of log " + path);
+        }
+        if (!hasCommit) {
+            segment.applyAll(batch);
+        } else if (!batch.isEmpty()) {
+            logger.warning("Ignoring " + batch.size() + " uncommitted records at the end of log " + path);
+        }
+        segment.fileLength = contents.length;
+        return segment;
+    }
+
+    /**
+     * Checks that no readable record starts anywhere after the unreadable record at the position of {@code buffer}.
+     */
+    private static void checkIsTornTail(Path path, ByteBuffer buffer) throws IllegalValueException {
+        int start = buffer.position();
+        for (int offset = start + 1; offset < buffer.limit(); offset++) {
+            if (LogRecord.decode(buffer.duplicate().position(offset)) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT_RECORD, path, start));
+            }
+        }
+    }
+
+    /**
+     * Creates a new log at {@code path} holding {@code records}.
+     * The log is written in full and forced to disk before it replaces any file at {@code path}.
+     */
+    static LogSegment create(Path path, List<LogRecord> records) throws IOException {
+        requireNonNull(path);
+        List<LogRecord> batch = withCommit(records);
+        FileUtil.writeToFileAtomically(path, encode(batch));
+
+        LogSegment segment = new LogSegment(path);
+        segment.applyAll(batch);
+        segment.fileLength = segment.size;
+        return segment;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static List<LogRecord> withCommit(List<LogRecord> records) {
+        List<LogRecord> batch = new ArrayList<>(records);
+        batch.add(LogRecord.commit());
+        return batch;
+    }
+
+    private static ByteBuffer[] encode(List<LogRecord> records) {
+        ByteBuffer[] buffers = new ByteBuffer[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            buffers[i] = ByteBuffer.wrap(records.get(i).encode());
+        }
+        return buffers;
+    }
+
+    /**
+     * Appends {@code records} to the end of the log in one write, followed by a commit, and forces them to disk.
+     * An incomplete record that replaying the log found at its end is overwritten, but the file is never cut short if
+     * it changed in any other way since it was read.
+     */
+    void append(List<LogRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<LogRecord> batch = withCommit(records);
+        ByteBuffer[] buffers = encode(batch);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            if (fileLength != UNKNOWN_LENGTH && length != fileLength) {
+                throw new IOException("Log " + path + " changed on disk since it was read.");
+            }
+            if (length > size) {
+                channel.truncate(size);
+            }
+            fileLength = UNKNOWN_LENGTH; // Only this append can leave bytes past the records from here on
+            channel.position(size);
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) {
+                remaining += buffer.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            channel.force(false);
+        }
+
+        applyAll(batch);
+        fileLength = size;
+    }
+
+    /**
+     * Updates the key directory with {@code records}, which follow one another from the end of the whole records.
+     */
+    private void applyAll(List<LogRecord> records) {
+        for (LogRecord record : records) {
+            apply(record, size);
+            size += record.getSize();
+        }
+    }
+
+    /**
+     * Updates the key directory with {@code record}, which starts at {@code offset} in the file.
+     */
+    private void apply(LogRecord record, long offset) {
+        switch (record.getType()) {
+        case PUT_GUEST:
+            long valueOffset = offset + record.getSize() - record.getValue().length;
+            keyDirectory.put(record.getKey(), new Entry(valueOffset, record.getValue().length, record.getSize()));
+            break;
+        case DELETE_GUEST:
+            keyDirectory.remove(record.getKey());
+            break;
+        case ORDER_GUESTS:
+            applyOrder(record);
+            break;
+        case PUT_TABLES:
+            tables = record.getValue();
+            tablesRecordSize = record.getSize();
+            break;
+        case PUT_WEDDINGS:
+            weddings = record.getValue();
+            weddingsRecordSize = record.getSize();
+            break;
+        case COMMIT:
+            break;
+        default:
+            throw new AssertionError("Unknown record type " + record.getType());
+        }
+    }
+
+    private void applyOrder(LogRecord record) {
+        String[] order;
+        try {
+            order = JsonUtil.fromJsonString(new String(record.getValue(), StandardCharsets.UTF_8), String[].class);
+        } catch (IOException ioe) {
+            logger.warning("Ignoring unreadable guest order in log " + path + ": " + ioe);
+            return;
+        }
+        Map<String, Entry> ordered = new LinkedHashMap<>();
+        for (String key : order) {
+            Entry entry = keyDirectory.get(key);
+            if (entry != null) {
+                ordered.put(key, entry);
+            }
+        }
+        ordered.putAll(keyDirectory); // Keeps any guest missing from the order at the end
+        keyDirectory.clear();
+        keyDirectory.putAll(ordered);
+        orderRecordSize = record.getSize();
+    }
+
+    /**
+     * Returns the names of the guests in the log, in order.
+     */
+    Set<String> getGuestNames() {
+        return keyDirectory.keySet();
+    }
+
+    boolean hasGuest(String name) {
+        return keyDirectory.containsKey(name);
+    }
+
+    /**
+     * Returns the latest value of the guest named {@code name}, read from the file at the place the key directory
+     * gives, or null if there is no such guest.
+     */
+    byte[] readGuest(String name) throws IOException {
+        Entry entry = keyDirectory.get(name);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer value = ByteBuffer.allocate(entry.valueLength);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (value.hasRemaining()) {
+                if (channel.read(value, entry.valueOffset + value.position()) < 0) {
+                    throw new IOException("Log " + path + " ends before the guest " + name + ".");
+                }
+            }
+        }
+        return value.array();
+    }
+
+    /**
+     * Returns the latest value of each guest, in order, taken from {@code contents}, the bytes of the file this log
+     * was replayed from.
+     */
+    List<byte[]> getGuests(byte[] contents) {
+        List<byte[]> guests = new ArrayList<>(keyDirectory.size());
+        for (Entry entry : keyDirectory.values()) {
+            int offset = (int) entry.valueOffset;
+            guests.add(Arrays.copyOfRange(contents, offset, offset + entry.valueLength));
+        }
+        return guests;
+    }
+
+    byte[] getTables() {
+        return tables;
+    }
+
+    byte[] getWeddings() {
+        return weddings;
+    }
+
+    /**
+     * Returns true if {@code person}, seated at the table with ID {@code tableId}, is known to be the latest value of
+     * the guest with the same name, from an earlier call to {@link #markSaved}.
+     */
+    boolean isSaved(String name, Person person, int tableId) {
+        Entry entry = keyDirectory.get(name);
+        return entry != null && entry.savedTableId == tableId && Objects.equals(entry.savedPerson, person);
+    }
+
+    /**
+     * Records that {@code person}, seated at the table with ID {@code tableId}, is the latest value of the guest named
+     * {@code name}.
+     */
+    void markSaved(String name, Person person, int tableId) {
+        Entry entry = keyDirectory.get(name);
+        if (entry != null) {
+            entry.savedPerson = person;
+            entry.savedTableId = tableId;
+        }
+    }
+
+    /**
+     * Carries over what is known from {@link #markSaved} about the guests in {@code other} that have the same latest
+     * value in this log, such as when this log was merged from {@code other}.
+     */
+    void copySavedFrom(LogSegment other) {
+        for (Map.Entry<String, Entry> otherEntry : other.keyDirectory.entrySet()) {
+            Entry entry = keyDirectory.get(otherEntry.getKey());
+            if (entry != null && entry.valueLength == otherEntry.getValue().valueLength) {
+                entry.savedPerson = otherEntry.getValue().savedPerson;
+                entry.savedTableId = otherEntry.getValue().savedTableId;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the file that are held by records that have since been replaced.
+     */
+    long getDeadBytes() {
+        long liveBytes = tablesRecordSize + orderRecordSize + weddingsRecordSize;
+        for (Entry entry : keyDirectory.values()) {
+            liveBytes += entry.recordSize;
+        }
+        return size - liveBytes;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Where the latest value of a guest is in the file.
+     */
+    private static class Entry {
+        private final long valueOffset;
+        private final int valueLength;
+        private final long recordSize;
+        private Person savedPerson;
+        private int savedTableId;
+
+        Entry(long valueOffset, int valueLength, long recordSize) {
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.recordSize = recordSize;
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A class to access AddressBook data stored in a small log-structured key-value store.
+ * <p>
+ * The store is a folder next to the data file. Each wedding is kept in its own append-only log, keyed by guest name,
+ * and an index log lists the weddings in order with the logs that hold them. Every record carries a checksum. A save
+ * only appends records for the guests that were added, edited or deleted, and for the tables if they changed, so
+ * editing one guest is a single small append. While the store is open, a key directory in memory gives where the
+ * latest value of each guest is, so one guest can be read with {@link #readGuest} without reading the whole log.
+ * </p>
+ * <p>
+ * Once a log holds more than {@code mergeThreshold} bytes of replaced records, and more replaced than live ones, it is
+ * merged on a background thread into a new log holding only the latest value of each guest.
+ * </p>
+ * <p>
+ * If there is no index yet, the data file itself is read in the format of {@link JsonAddressBookStorage}, and the
+ * first save moves its weddings into the store.
+ * </p>
+ */
+public class LogStructuredAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_MERGE_THRESHOLD = 64 * 1024;
+
+    public static final String MESSAGE_MISSING_LOG_FIELD = "A wedding in the index has no name or log file.";
+    public static final String MESSAGE_INVALID_LOG_FILE = "Log file %s is not in the store folder.";
+
+    private static final Logger logger = LogsCenter.getLogger(LogStructuredAddressBookStorage.class);
+
+    private static final String STORE_FOLDER_SUFFIX = ".kv";
+    private static final String INDEX_FILE = "index.log";
+    private static final String LOG_FILE_PREFIX = "wedding-";
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final byte[] EMPTY_LIST_JSON = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final Path filePath;
+    private final long mergeThreshold;
+
+    /** The logs of the store at this storage's own data file, or null until it has been read or saved. */
+    private LogSegment index;
+    /** The log of each wedding, by lower-cased wedding name. */
+    private Map<String, LogSegment> logs;
+    /** The version of each wedding last saved, by lower-cased wedding name. */
+    private Map<String, Long> savedVersions;
+
+    private ExecutorService merger;
+    private final AtomicBoolean isMergeScheduled = new AtomicBoolean();
+
+    public LogStructuredAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MERGE_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that merges a log once it holds more than
+     * {@code mergeThreshold} bytes of replaced records.
+     */
+    public LogStructuredAddressBookStorage(Path filePath, long mergeThreshold) {
+        checkArgument(mergeThreshold >= 0, "Merge threshold cannot be negative.");
+        this.filePath = filePath;
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder holding the store kept for the data file at {@code filePath}.
+     */
+    public static Path getStoreFolderPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + STORE_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the index of the store kept for the data file at {@code filePath}.
+     */
+    public static Path getIndexPath(Path filePath) {
+        return getStoreFolderPath(filePath).resolve(INDEX_FILE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path indexPath = getIndexPath(filePath);
+        if (!Files.exists(indexPath)) {
+            logger.info("No store index at " + indexPath + ", reading json data file " + filePath);
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            LogSegment readIndex = LogSegment.replay(indexPath, Files.readAllBytes(indexPath));
+            JsonLogIndexEntry[] entries = readIndexEntries(readIndex);
+
+            Path storeFolder = getStoreFolderPath(filePath);
+            LogSegment[] readLogs = new LogSegment[entries.length];
+            ParallelWeddingReader reader = new ParallelWeddingReader();
+            for (int i = 0; i < entries.length; i++) {
+                int position = i;
+                reader.submit(() -> {
+                    Path logPath = resolveLog(storeFolder, entries[position]);
+                    byte[] contents = Files.readAllBytes(logPath);
+                    readLogs[position] = LogSegment.replay(logPath, contents);
+                    byte[] json = toCompactJson(entries[position].getName(), readLogs[position], contents);
+                    return JsonUtil.fromJsonString(new String(json, StandardCharsets.UTF_8), JsonAdaptedWedding.class)
+                            .toCompactModelType(json);
+                });
+            }
+            List<Wedding> weddings = reader.join();
+
+            AddressBook addressBook = new AddressBook();
+            Map<String, LogSegment> weddingLogs = new HashMap<>();
+            for (int i = 0; i < weddings.size(); i++) {
+                addressBook.addWedding(weddings.get(i));
+                weddingLogs.put(weddings.get(i).getNameLower(), readLogs[i]);
+            }
+            if (filePath.equals(this.filePath)) {
+                index = readIndex;
+                logs = weddingLogs;
+                savedVersions = getVersions(addressBook);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from store " + indexPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in store " + indexPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the guest named {@code guestName} in the wedding named {@code weddingName}, as last read or saved by
+     * this storage, reading only that guest from its log. Returns an empty {@code Optional} if there is no such guest,
+     * or if this storage has not read or saved its data yet.
+     *
+     * @throws DataLoadingException if the guest could not be read.
+     */
+    public synchronized Optional<Person> readGuest(String weddingName, String guestName) throws DataLoadingException {
+        requireAllNonNull(weddingName, guestName);
+        LogSegment log = logs == null ? null : logs.get(weddingName.toLowerCase());
+        if (log == null || !log.hasGuest(guestName)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(new String(log.readGuest(guestName), StandardCharsets.UTF_8),
+                    JsonAdaptedPerson.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any file other than this storage's own data file write a whole new store.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(this.filePath) || logs == null) {
+            writeStore(addressBook, filePath);
+            return;
+        }
+
+        Path storeFolder = getStoreFolderPath(filePath);
+        Map<String, LogSegment> currentLogs = new HashMap<>();
+        List<JsonLogIndexEntry> entries = new ArrayList<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            LogSegment log = logs.get(wedding.getNameLower());
+            Long savedVersion = savedVersions.get(wedding.getNameLower());
+            if (log == null) {
+                log = LogSegment.create(newLogPath(storeFolder), getAllRecords(wedding));
+            } else if (savedVersion == null || savedVersion != wedding.getVersion()) {
+                appendChanges(log, wedding);
+            }
+            currentLogs.put(wedding.getNameLower(), log);
+            entries.add(new JsonLogIndexEntry(wedding.getName(), log.getPath().getFileName().toString()));
+        }
+
+        LogRecord indexRecord = getIndexRecord(entries);
+        if (!Arrays.equals(indexRecord.getValue(), index.getWeddings())) {
+            index.append(List.of(indexRecord));
+        }
+        for (Map.Entry<String, LogSegment> oldLog : logs.entrySet()) {
+            if (currentLogs.get(oldLog.getKey()) != oldLog.getValue()) {
+                Files.deleteIfExists(oldLog.getValue().getPath());
+            }
+        }
+
+        logs = currentLogs;
+        savedVersions = getVersions(addressBook);
+        scheduleMerges();
+    }
+
+    /**
+     * Appends records to {@code log} for the guests of {@code wedding} that were added, edited or deleted since they
+     * were last saved, for the new order of the guests if it changed other than by adding guests at the end, and for
+     * the tables if they changed.
+     */
+    private static void appendChanges(LogSegment log, Wedding wedding) throws IOException {
+        List<LogRecord> records = new ArrayList<>();
+        byte[] tables = getTablesValue(wedding);
+        if (!Arrays.equals(tables, log.getTables())) {
+            records.add(new LogRecord(LogRecord.Type.PUT_TABLES, "", tables));
+        }
+
+        List<Person> guests = wedding.getUniquePersonList().asUnmodifiableObservableList();
+        List<String> names = new ArrayList<>();
+        for (Person guest : guests) {
+            names.add(guest.getName().fullName);
+        }
+        Set<String> currentNames = new HashSet<>(names);
+        List<String> expectedOrder = new ArrayList<>();
+        for (String savedName : log.getGuestNames()) {
+            if (currentNames.contains(savedName)) {
+                expectedOrder.add(savedName);
+            } else {
+                records.add(new LogRecord(LogRecord.Type.DELETE_GUEST, savedName, new byte[0]));
+            }
+        }
+
+        for (Person guest : guests) {
+            String name = guest.getName().fullName;
+            int tableId = wedding.getTableIdOf(guest);
+            if (!log.hasGuest(name)) {
+                expectedOrder.add(name);
+            } else if (log.isSaved(name, guest, tableId)) {
+                continue;
+            }
+            byte[] value = getGuestValue(guest, tableId);
+            if (log.hasGuest(name) && Arrays.equals(value, log.readGuest(name))) {
+                continue;
+            }
+            records.add(new LogRecord(LogRecord.Type.PUT_GUEST, name, value));
+        }
+
+        if (!expectedOrder.equals(names)) {
+            records.add(new LogRecord(LogRecord.Type.ORDER_GUESTS, "",
+                    JsonUtil.toCompactJsonString(names).getBytes(StandardCharsets.UTF_8)));
+        }
+        log.append(records);
+        for (Person guest : guests) {
+            log.markSaved(guest.getName().fullName, guest, wedding.getTableIdOf(guest));
+        }
+    }
+
+    /**
+     * Writes a whole new store for {@code addressBook} at {@code filePath}, replacing any store already there.
+     */
+    private void writeStore(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path storeFolder = getStoreFolderPath(filePath);
+        Files.createDirectories(storeFolder);
+
+        Map<String, LogSegment> newLogs = new HashMap<>();
+        List<JsonLogIndexEntry> entries = new ArrayList<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            LogSegment log = LogSegment.create(newLogPath(storeFolder), getAllRecords(wedding));
+            newLogs.put(wedding.getNameLower(), log);
+            entries.add(new JsonLogIndexEntry(wedding.getName(), log.getPath().getFileName().toString()));
+        }
+        LogSegment newIndex = LogSegment.create(storeFolder.resolve(INDEX_FILE), List.of(getIndexRecord(entries)));
+        deleteUnlistedLogs(storeFolder, entries);
+
+        if (filePath.equals(this.filePath)) {
+            index = newIndex;
+            logs = newLogs;
+            savedVersions = getVersions(addressBook);
+        }
+    }
+
+    /**
+     * Merges, on a background thread, the logs that hold enough replaced records, unless a merge is already waiting.
+     */
+    private void scheduleMerges() {
+        boolean hasMergeableLog = index.getDeadBytes() > mergeThreshold
+                || logs.values().stream().anyMatch(this::isMergeable);
+        if (!hasMergeableLog || !isMergeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (merger == null) {
+            merger = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "address-book-merger");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        merger.execute(() -> {
+            isMergeScheduled.set(false);
+            try {
+                mergeLogs();
+            } catch (IOException ioe) {
+                logger.warning("Could not merge the logs of store " + getStoreFolderPath(filePath) + ": " + ioe);
+            }
+        });
+    }
+
+    private boolean isMergeable(LogSegment log) {
+        return log.getDeadBytes() > mergeThreshold && log.getDeadBytes() > log.getSize() - log.getDeadBytes();
+    }
+
+    /**
+     * Replaces each log that holds enough replaced records with a new log holding only the latest records, and
+     * rewrites the index in the same way if it needs it.
+     */
+    synchronized void mergeLogs() throws IOException {
+        if (logs == null) {
+            return;
+        }
+        Path storeFolder = getStoreFolderPath(filePath);
+        List<Path> mergedPaths = new ArrayList<>();
+        for (Map.Entry<String, LogSegment> entry : logs.entrySet()) {
+            LogSegment log = entry.getValue();
+            if (!isMergeable(log)) {
+                continue;
+            }
+            byte[] contents = Files.readAllBytes(log.getPath());
+            List<LogRecord> records = new ArrayList<>();
+            records.add(new LogRecord(LogRecord.Type.PUT_TABLES, "", log.getTables()));
+            Iterator<byte[]> values = log.getGuests(contents).iterator();
+            for (String name : log.getGuestNames()) {
+                records.add(new LogRecord(LogRecord.Type.PUT_GUEST, name, values.next()));
+            }
+            LogSegment merged = LogSegment.create(newLogPath(storeFolder), records);
+            merged.copySavedFrom(log);
+            entry.setValue(merged);
+            mergedPaths.add(log.getPath());
+        }
+
+        List<JsonLogIndexEntry> entries = new ArrayList<>();
+        for (JsonLogIndexEntry entry : readIndexEntries(index)) {
+            LogSegment log = logs.get(entry.getName().toLowerCase());
+            entries.add(new JsonLogIndexEntry(entry.getName(), log.getPath().getFileName().toString()));
+        }
+        LogRecord indexRecord = getIndexRecord(entries);
+        if (index.getDeadBytes() > mergeThreshold) {
+            index = LogSegment.create(index.getPath(), List.of(indexRecord));
+        } else if (!mergedPaths.isEmpty()) {
+            index.append(List.of(indexRecord));
+        }
+        for (Path mergedPath : mergedPaths) {
+            Files.deleteIfExists(mergedPath);
+        }
+    }
+
+    private static JsonLogIndexEntry[] readIndexEntries(LogSegment index) throws IOException {
+        if (index.getWeddings().length == 0) {
+            return new JsonLogIndexEntry[0];
+        }
+        return JsonUtil.fromJsonString(new String(index.getWeddings(), StandardCharsets.UTF_8),
+                JsonLogIndexEntry[].class);
+    }
+
+    /**
+     * Returns the path of the log described by {@code entry}, checking that it is in {@code storeFolder}.
+     */
+    private static Path resolveLog(Path storeFolder, JsonLogIndexEntry entry) throws IllegalValueException {
+        if (entry.getName() == null || entry.getFile() == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_LOG_FIELD);
+        }
+        Path logPath = storeFolder.resolve(entry.getFile()).normalize();
+        if (!storeFolder.normalize().equals(logPath.getParent())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LOG_FILE, entry.getFile()));
+        }
+        return logPath;
+    }
+
+    /**
+     * Returns the single-line JSON of the wedding named {@code name} held in {@code log}, as
+     * {@link JsonUtil#toCompactJsonString} writes it, put together from the values in {@code contents}, the bytes of
+     * the file {@code log} was replayed from, without reading the values.
+     */
+    private static byte[] toCompactJson(String name, LogSegment log, byte[] contents) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream(contents.length);
+        json.write(("{\"name\":" + JsonUtil.toCompactJsonString(name) + ",\"guests\":[")
+                .getBytes(StandardCharsets.UTF_8));
+        boolean isFirst = true;
+        for (byte[] guest : log.getGuests(contents)) {
+            if (!isFirst) {
+                json.write(',');
+            }
+            json.write(guest);
+            isFirst = false;
+        }
+        json.write("],\"tables\":".getBytes(StandardCharsets.UTF_8));
+        json.write(log.getTables().length > 0 ? log.getTables() : EMPTY_LIST_JSON);
+        json.write('}');
+        return json.toByteArray();
+    }
+
+    /**
+     * Returns the records of a new log holding {@code wedding}.
+     * A compacted wedding is written from its compact form, without building its guests and tables.
+     */
+    private static List<LogRecord> getAllRecords(Wedding wedding) throws IOException {
+        JsonAdaptedWedding jsonWedding = new JsonAdaptedWedding(wedding);
+        List<LogRecord> records = new ArrayList<>();
+        records.add(new LogRecord(LogRecord.Type.PUT_TABLES, "",
+                JsonUtil.toCompactJsonString(jsonWedding.getTables()).getBytes(StandardCharsets.UTF_8)));
+        for (JsonAdaptedPerson guest : jsonWedding.getGuests()) {
+            records.add(new LogRecord(LogRecord.Type.PUT_GUEST, guest.getName(),
+                    JsonUtil.toCompactJsonString(guest).getBytes(StandardCharsets.UTF_8)));
+        }
+        return records;
+    }
+
+    private static LogRecord getIndexRecord(List<JsonLogIndexEntry> entries) throws IOException {
+        return new LogRecord(LogRecord.Type.PUT_WEDDINGS, "",
+                JsonUtil.toCompactJsonString(entries).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] getTablesValue(Wedding wedding) throws IOException {
+        List<JsonAdaptedTable> tables = new ArrayList<>();
+        for (Table table : wedding.getTableList().asUnmodifiableObservableList()) {
+            tables.add(new JsonAdaptedTable(table));
+        }
+        return JsonUtil.toCompactJsonString(tables).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] getGuestValue(Person guest, int tableId) throws IOException {
+        return JsonUtil.toCompactJsonString(new JsonAdaptedPerson(guest, tableId)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Long> getVersions(ReadOnlyAddressBook addressBook) {
+        Map<String, Long> versions = new HashMap<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            versions.put(wedding.getNameLower(), wedding.getVersion());
+        }
+        return versions;
+    }
+
+    private static Path newLogPath(Path storeFolder) {
+        return storeFolder.resolve(LOG_FILE_PREFIX + UUID.randomUUID() + LOG_FILE_SUFFIX);
+    }
+
+    /**
+     * Deletes the wedding logs in {@code storeFolder} that are not listed in {@code entries}.
+     */
+    private static void deleteUnlistedLogs(Path storeFolder, List<JsonLogIndexEntry> entries) throws IOException {
+        Set<String> listedFiles = new HashSet<>();
+        for (JsonLogIndexEntry entry : entries) {
+            listedFiles.add(entry.getFile());
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(storeFolder,
+                LOG_FILE_PREFIX + "*" + LOG_FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!listedFiles.contains(file.getFileName().toString())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Reads and validates the weddings of an address book in parallel on a fork/join pool.
+ * <p>
+ * Weddings are independent of each other, so each one submitted is converted to the model as soon as a worker is
+ * free, while the caller goes on reading the next. The results are then collected in the order the weddings were
+ * submitted, which is their order in the file, so the error reported for bad data is always the one that reading the
+ * weddings one after another would have reported first.
+ * </p>
+ */
+class ParallelWeddingReader {
+
+    /**
+     * Reads one wedding.
+     */
+    @FunctionalInterface
+    interface WeddingSource {
+        Wedding read() throws IOException, IllegalValueException;
+    }
+
+    private final ForkJoinPool pool;
+    private final List<ReadTask> tasks = new ArrayList<>();
+
+    ParallelWeddingReader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelWeddingReader(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Starts reading the wedding from {@code source}.
+     */
+    void submit(WeddingSource source) {
+        requireNonNull(source);
+        ReadTask task = new ReadTask(source);
+        tasks.add(task);
+        pool.execute(task);
+    }
+
+    /**
+     * Starts converting {@code wedding} to a compacted model wedding.
+     *
+     * @see JsonAdaptedWedding#toCompactModelType()
+     */
+    void submit(JsonAdaptedWedding wedding) {
+        requireNonNull(wedding);
+        submit(wedding::toCompactModelType);
+    }
+
+    /**
+     * Waits for every submitted wedding and returns them in the order they were submitted.
+     * Once a wedding fails to be read, or has the same name as an earlier one, the weddings after it are abandoned.
+     *
+     * @throws IOException if the first wedding that could not be read failed with an {@code IOException}.
+     * @throws IllegalValueException if the first wedding that could not be read had illegal values, or if it is a
+     *     duplicate of an earlier wedding.
+     */
+    List<Wedding> join() throws IOException, IllegalValueException {
+        List<Wedding> weddings = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        try {
+            for (ReadTask task : tasks) {
+                Wedding wedding = task.join();
+                if (task.ioException != null) {
+                    throw task.ioException;
+                }
+                if (task.illegalValueException != null) {
+                    throw task.illegalValueException;
+                }
+                if (!names.add(wedding.getNameLower())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+                }
+                weddings.add(wedding);
+            }
+        } finally {
+            for (ReadTask task : tasks) {
+                task.cancel(false);
+            }
+            tasks.clear();
+        }
+        return weddings;
+    }
+
+    /**
+     * Waits for every submitted wedding and adds them to {@code addressBook} in the order they were submitted.
+     *
+     * @see #join()
+     */
+    void addTo(AddressBook addressBook) throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+        for (Wedding wedding : join()) {
+            if (addressBook.hasWedding(wedding)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+            }
+            addressBook.addWedding(wedding);
+        }
+    }
+
+    /**
+     * Reads one wedding, keeping the checked exception it fails with for {@link #join()} to rethrow on the caller's
+     * thread.
+     */
+    private static class ReadTask extends RecursiveTask<Wedding> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient WeddingSource source;
+        private transient IOException ioException;
+        private transient IllegalValueException illegalValueException;
+
+        ReadTask(WeddingSource source) {
+            this.source = source;
+        }
+
+        @Override
+        protected Wedding compute() {
+            try {
+                return source.read();
+            } catch (IOException ioe) {
+                ioException = ioe;
+            } catch (IllegalValueException ive) {
+                illegalValueException = ive;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A class to access AddressBook data stored as one json file per wedding.
+ * <p>
+ * The shard files live in a folder next to the data file, together with a small manifest that lists, in wedding
+ * order, each wedding's name, shard file, number of guests and tables, and the length and CRC-32 checksum of its
+ * shard. A save only writes the shards of the weddings that changed since the last save, each to a new file that is
+ * forced to disk, then atomically replaces the manifest and deletes the shards it no longer lists, so the manifest
+ * only ever lists shards that are whole on disk. Shards are read in parallel, and each is checked against the
+ * manifest.
+ * </p>
+ * <p>
+ * If there is no manifest yet, the data file itself is read in the single-file format of
+ * {@link JsonAddressBookStorage}, and the first save moves its weddings into shards.
+ * </p>
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_MISSING_SHARD_FIELD = "A shard in the manifest has no wedding name or file.";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Shard file %s is not in the shard folder.";
+    public static final String MESSAGE_CORRUPT_SHARD = "Shard file %s of wedding %s does not match the manifest.";
+    public static final String MESSAGE_WRONG_SHARD = "Shard file %s does not hold wedding %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_FOLDER_SUFFIX = ".shards";
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final String SHARD_FILE_PREFIX = "wedding-";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private final Path filePath;
+
+    /** The shard last written for each wedding, by lower-cased wedding name, or null if the shards are unknown. */
+    private Map<String, SavedShard> savedShards;
+    private List<JsonShardEntry> savedManifest;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder holding the manifest and shards kept for the data file at {@code filePath}.
+     */
+    public static Path getShardFolderPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the manifest kept for the data file at {@code filePath}.
+     */
+    public static Path getManifestPath(Path filePath) {
+        return getShardFolderPath(filePath).resolve(MANIFEST_FILE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path manifestPath = getManifestPath(filePath);
+        if (!Files.exists(manifestPath)) {
+            logger.info("No shard manifest at " + manifestPath + ", reading single data file " + filePath);
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        JsonShardManifest manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class).get();
+
+        AddressBook addressBook = new AddressBook();
+        Map<String, SavedShard> shards = new HashMap<>();
+        ParallelWeddingReader reader = new ParallelWeddingReader();
+        for (JsonShardEntry entry : manifest.getShards()) {
+            reader.submit(() -> readShard(getShardFolderPath(filePath), entry));
+        }
+        try {
+            List<Wedding> weddings = reader.join();
+            for (int i = 0; i < weddings.size(); i++) {
+                Wedding wedding = weddings.get(i);
+                addressBook.addWedding(wedding);
+                shards.put(wedding.getNameLower(), new SavedShard(wedding, manifest.getShards().get(i)));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading shards listed in " + manifestPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in shards listed in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            savedManifest = manifest.getShards();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any file other than this storage's own data file write every shard.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        boolean isUpdate = filePath.equals(this.filePath) && savedShards != null;
+        Map<String, SavedShard> previousShards = isUpdate ? savedShards : Map.of();
+        Path shardFolder = getShardFolderPath(filePath);
+        Files.createDirectories(shardFolder);
+
+        List<JsonShardEntry> manifest = new ArrayList<>();
+        Map<String, SavedShard> currentShards = new HashMap<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            SavedShard shard = previousShards.get(wedding.getNameLower());
+            if (shard == null || shard.version != wedding.getVersion()) {
+                shard = new SavedShard(wedding, writeShard(shardFolder, wedding));
+            }
+            manifest.add(shard.entry);
+            currentShards.put(wedding.getNameLower(), shard);
+        }
+
+        if (isUpdate && manifest.equals(savedManifest)) {
+            return;
+        }
+        writeManifest(shardFolder, manifest);
+        deleteUnlistedShards(shardFolder, manifest);
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = currentShards;
+            savedManifest = manifest;
+        }
+    }
+
+    /**
+     * Reads the wedding in the shard described by {@code entry}, checking the shard against the entry.
+     */
+    private static Wedding readShard(Path shardFolder, JsonShardEntry entry) throws IOException, IllegalValueException {
+        if (entry.getName() == null || entry.getFile() == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_SHARD_FIELD);
+        }
+        Path shardPath = shardFolder.resolve(entry.getFile()).normalize();
+        if (!shardFolder.normalize().equals(shardPath.getParent())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, entry.getFile()));
+        }
+
+        byte[] shard = Files.readAllBytes(shardPath);
+        CRC32 checksum = new CRC32();
+        checksum.update(shard);
+        if (shard.length != entry.getBytes() || checksum.getValue() != entry.getChecksum()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SHARD, entry.getFile(), entry.getName()));
+        }
+
+        JsonAdaptedWedding jsonWedding = JsonUtil.fromJsonString(new String(shard, StandardCharsets.UTF_8),
+                JsonAdaptedWedding.class);
+        Wedding wedding = JsonCompactWedding.isSingleLine(shard)
+                ? jsonWedding.toCompactModelType(shard)
+                : jsonWedding.toCompactModelType(); // A shard written before shards were single-line
+        if (!wedding.getNameLower().equals(entry.getName().toLowerCase())) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_SHARD, entry.getFile(), entry.getName()));
+        }
+        return wedding;
+    }
+
+    /**
+     * Writes {@code wedding} to a new shard file in {@code shardFolder}, forced to disk, and returns its manifest
+     * entry.
+     */
+    private static JsonShardEntry writeShard(Path shardFolder, Wedding wedding) throws IOException {
+        String file = SHARD_FILE_PREFIX + UUID.randomUUID() + SHARD_FILE_SUFFIX;
+        JsonAdaptedWedding jsonWedding = new JsonAdaptedWedding(wedding);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            generator.writeObject(jsonWedding);
+        }
+        byte[] shard = out.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(shard);
+        FileUtil.writeToFileAtomically(shardFolder.resolve(file), ByteBuffer.wrap(shard));
+        return new JsonShardEntry(wedding.getName(), file, jsonWedding.getGuestCount(),
+                jsonWedding.getTableCount(), shard.length, checksum.getValue());
+    }
+
+    /**
+     * Replaces the manifest in {@code shardFolder} with one listing {@code shards}.
+     * The new manifest is forced to disk before it atomically replaces the old one, so the manifest on disk is always
+     * either the old or the new one in full, see {@link FileUtil#writeToFileAtomically}.
+     */
+    private static void writeManifest(Path shardFolder, List<JsonShardEntry> shards) throws IOException {
+        byte[] manifest = JsonUtil.toJsonString(new JsonShardManifest(shards)).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(shardFolder.resolve(MANIFEST_FILE), ByteBuffer.wrap(manifest));
+    }
+
+    /**
+     * Deletes the shard files in {@code shardFolder} that are not listed in {@code shards}.
+     */
+    private static void deleteUnlistedShards(Path shardFolder, List<JsonShardEntry> shards) throws IOException {
+        Set<String> listedFiles = new HashSet<>();
+        for (JsonShardEntry shard : shards) {
+            listedFiles.add(shard.getFile());
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardFolder,
+                SHARD_FILE_PREFIX + "*" + SHARD_FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!listedFiles.contains(file.getFileName().toString())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * A shard as last written, with the version of the wedding it holds.
+     */
+    private static class SavedShard {
+        private final long version;
+        private final JsonShardEntry entry;
+
+        SavedShard(Wedding wedding, JsonShardEntry entry) {
+            this.version = wedding.getVersion();
+            this.entry = entry;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits until every save of the address book handed over so far has been written.
+     * @throws IOException if a save that has not been reported yet failed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler told of each save of the address book that fails after {@code saveAddressBook} has returned.
+     * It may be called on a thread other than the one that handed over the save.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
@@ -1,18 +1,36 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.wedding.Wedding;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * When saving in the background, each save of the address book to its own data file hands a copy of the address book
+ * to a single writer thread, so the caller does not wait for the disk. Only the weddings that changed since the last
+ * save was handed over are copied. The copies of the others are never changed, so they are shared with the earlier
+ * copy. Saves that arrive while the writer is busy are merged, so only the latest copy is written. A failed background
+ * save is passed to the save failure handler and thrown from the next save or {@link #flushAddressBook()}.
+ * </p>
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +38,44 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor; // Null when saving synchronously
+    private final AtomicReference<ReadOnlyAddressBook> pendingSave = new AtomicReference<>();
+    /** The wedding copies in the copy last handed over, by lower-cased wedding name. */
+    private Map<String, Wedding> handedOverWeddings = new HashMap<>();
+    private volatile IOException lastSaveFailure;
+    private volatile Consumer<IOException> saveFailureHandler = failure -> { };
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage} that
+     * saves the address book on a background thread if {@code isSavingInBackground} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isSavingInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = isSavingInBackground
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "address-book-saver");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    /**
+     * Sets the handler told of each failed background save. It is called on the writer thread.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
     }
 
     // ================ UserPrefs methods ==============================
@@ -72,7 +122,78 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saveExecutor == null || !filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            synchronized (addressBookStorage) {
+                addressBookStorage.saveAddressBook(addressBook, filePath);
+            }
+            return;
+        }
+
+        if (pendingSave.getAndSet(copyChangedWeddings(addressBook)) == null) {
+            saveExecutor.execute(this::writePendingSave);
+        }
+        throwLastSaveFailure();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saveExecutor == null) {
+            return;
+        }
+        try {
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Saves report their failures without throwing.", e);
+        }
+        throwLastSaveFailure();
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} for the writer thread, copying only the weddings whose version changed
+     * since the last copy was made.
+     */
+    private AddressBook copyChangedWeddings(ReadOnlyAddressBook addressBook) {
+        AddressBook copy = new AddressBook();
+        Map<String, Wedding> copiedWeddings = new HashMap<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            Wedding weddingCopy = handedOverWeddings.get(wedding.getNameLower());
+            if (weddingCopy == null || weddingCopy.getVersion() != wedding.getVersion()) {
+                weddingCopy = new Wedding(wedding);
+            }
+            copy.addWedding(weddingCopy);
+            copiedWeddings.put(wedding.getNameLower(), weddingCopy);
+        }
+        handedOverWeddings = copiedWeddings;
+        return copy;
+    }
+
+    /**
+     * Writes the latest address book handed over for saving, if it has not been written yet.
+     */
+    private void writePendingSave() {
+        ReadOnlyAddressBook addressBook = pendingSave.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            synchronized (addressBookStorage) {
+                addressBookStorage.saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            }
+        } catch (IOException ioe) {
+            logger.warning("Background save to " + addressBookStorage.getAddressBookFilePath() + " failed: " + ioe);
+            lastSaveFailure = ioe;
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    private void throwLastSaveFailure() throws IOException {
+        IOException failure = lastSaveFailure;
+        if (failure != null) {
+            lastSaveFailure = null;
+            throw failure;
+        }
     }
 
 }
@@ -9,6 +9,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.DietaryRestriction;
 import seedu.address.model.person.Person;
+import seedu.address.model.wedding.SeatingPlan;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -48,9 +49,9 @@ public class PersonCard extends UiPart<Region> {
     private Label table;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, index and table ID to display.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, int tableId) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -125,8 +126,8 @@ public class PersonCard extends UiPart<Region> {
             break;
         }
 
-        if (person.isSeated()) {
-            table.setText("TableId: " + person.getTableIdString());
+        if (tableId != SeatingPlan.UNSEATED) {
+            table.setText("TableId: " + SeatingPlan.toTableIdString(tableId));
         } else {
             table.setText("No table assigned");
         }
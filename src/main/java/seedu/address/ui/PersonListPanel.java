@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,11 +21,15 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final ToIntFunction<Person> tableIdLookup;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * {@code tableIdLookup} gives the ID of the table each person is seated at.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ToIntFunction<Person> tableIdLookup) {
         super(FXML);
+        this.tableIdLookup = tableIdLookup;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
@@ -41,7 +46,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, tableIdLookup.applyAsInt(person)).getRoot());
             }
         }
     }
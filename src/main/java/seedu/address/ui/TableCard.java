@@ -1,15 +1,12 @@
 package seedu.address.ui;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.person.DietaryRestriction;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Rsvp;
 import seedu.address.model.table.Table;
 
@@ -65,32 +62,23 @@ public class TableCard extends UiPart<Region> {
             persons.getChildren().add(personLabel);
         });
 
-        // Count and display dietary restrictions for this table
-        displayDietaryRestrictionCounts();
-
-        // Count and display RSVP statuses for this table
-        displayRsvpCounts();
+        // Display the table's running dietary restriction and RSVP totals
+        GuestCounts guestCounts = table.getGuestCounts();
+        displayDietaryRestrictionCounts(guestCounts);
+        displayRsvpCounts(guestCounts);
     }
 
     /**
-     * Counts and displays the number of each dietary restriction among people at the table.
+     * Displays the number of each dietary restriction among people at the table.
      */
-    private void displayDietaryRestrictionCounts() {
-        Map<String, Integer> restrictionCounts = new HashMap<>();
-
-        // Count dietary restrictions using the DietaryRestriction field
-        for (Person person : table.getAllPersons()) {
-            DietaryRestriction dietRestriction = person.getDietaryRestriction();
-            if (dietRestriction != null
-                &&
-                dietRestriction.getTypicalRestriction() != DietaryRestriction.TypicalRestriction.NONE) {
-                String restriction = dietRestriction.toString();
-                restrictionCounts.put(restriction, restrictionCounts.getOrDefault(restriction, 0) + 1);
+    private void displayDietaryRestrictionCounts(GuestCounts guestCounts) {
+        for (DietaryRestriction.TypicalRestriction typicalRestriction
+                : DietaryRestriction.TypicalRestriction.values()) {
+            int count = guestCounts.getCount(typicalRestriction);
+            if (typicalRestriction == DietaryRestriction.TypicalRestriction.NONE || count == 0) {
+                continue;
             }
-        }
-
-        // Display the counts with button-like styling
-        restrictionCounts.forEach((restriction, count) -> {
+            String restriction = typicalRestriction.toString();
             Label label = new Label(restriction + ": " + count);
 
             // Add common style class for all dietary restrictions
@@ -131,26 +119,19 @@ public class TableCard extends UiPart<Region> {
             }
 
             dietaryRestrictions.getChildren().add(label);
-        });
+        }
     }
 
     /**
-     * Counts and displays the number of each RSVP status among people at the table.
+     * Displays the number of each RSVP status among people at the table.
      */
-    private void displayRsvpCounts() {
-        Map<String, Integer> rsvpStatusCounts = new HashMap<>();
-
-        // Count RSVP statuses
-        for (Person person : table.getAllPersons()) {
-            Rsvp rsvp = person.getRsvp();
-            if (rsvp != null) {
-                String status = rsvp.toString();
-                rsvpStatusCounts.put(status, rsvpStatusCounts.getOrDefault(status, 0) + 1);
+    private void displayRsvpCounts(GuestCounts guestCounts) {
+        for (Rsvp.Status rsvpStatus : Rsvp.Status.values()) {
+            int count = guestCounts.getCount(rsvpStatus);
+            if (count == 0) {
+                continue;
             }
-        }
-
-        // Display the counts
-        rsvpStatusCounts.forEach((status, count) -> {
+            String status = rsvpStatus.toString();
             Label label = new Label(status + ": " + count);
 
             // Add common style class for RSVP status
@@ -172,6 +153,6 @@ public class TableCard extends UiPart<Region> {
             }
 
             rsvpCounts.getChildren().add(label);
-        });
+        }
     }
 }
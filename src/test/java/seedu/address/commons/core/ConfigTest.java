@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", storageLayout=" + config.getStorageLayout()
+                + ", jsonEncoding=" + config.getJsonEncoding()
+                + ", isSavingInBackground=" + config.isSavingInBackground() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.StorageLayout;
 import seedu.address.commons.exceptions.DataLoadingException;
 
 public class ConfigUtilTest {
@@ -96,6 +97,7 @@ public class ConfigUtilTest {
 
         //Try saving when the file exists
         original.setLogLevel(Level.FINE);
+        original.setStorageLayout(StorageLayout.LOG_STRUCTURED);
         ConfigUtil.saveConfig(original, configFilePath);
         readBack = ConfigUtil.readConfig(configFilePath).get();
         assertEquals(original, readBack);
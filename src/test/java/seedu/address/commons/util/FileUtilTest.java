@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,69 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents that are longer");
+
+        FileUtil.writeToFileAtomically(file, ByteBuffer.wrap("new ".getBytes(StandardCharsets.UTF_8)),
+                ByteBuffer.wrap("contents".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_emptyLastBuffer_writesEverything() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        FileUtil.writeToFileAtomically(file, ByteBuffer.wrap("contents".getBytes(StandardCharsets.UTF_8)),
+                ByteBuffer.allocate(0));
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_moveFails_tempFileDeleted() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        Files.createDirectories(directory.resolve("child"));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(directory,
+                ByteBuffer.wrap("contents".getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_tempFileLeftByCrash_overwritten() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(testFolder.resolve("file.txt.tmp"), "half-written contents left by a crash");
+
+        FileUtil.writeToFileAtomically(file, ByteBuffer.wrap("contents".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_concurrentWriters_doNotCollide() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        String first = "a".repeat(10_000);
+        String second = "b".repeat(10_000);
+
+        List<String> contents = IntStream.range(0, 20).mapToObj(i -> i % 2 == 0 ? first : second)
+                .collect(Collectors.toList());
+        contents.parallelStream().forEach(content -> {
+            try {
+                FileUtil.writeToFileAtomically(file, ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        });
+
+        String written = FileUtil.readFromFile(file);
+        assertTrue(written.equals(first) || written.equals(second));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
 }
@@ -15,6 +15,9 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,6 +79,62 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_savesOnlyWhenDataChanged() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD); // The first command always saves
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+
+        logic.execute(AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + DIETARY_DESC_AMY + RSVP_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount.get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsFailureAndSavesAgain() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (saveCount.incrementAndGet() == 1) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        logic = new LogicManager(model, storage);
+        List<String> failures = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(failures::add);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                failures);
+
+        // Nothing changed, but the data that failed to save is saved again
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(2, saveCount.get());
+        assertEquals(1, failures.size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -11,6 +11,7 @@ import java.beans.PropertyChangeListener;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -153,6 +154,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons, int[] tableIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -163,6 +169,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person findPersonByName(Name name) {
             throw new AssertionError("This method should not be called.");
@@ -288,6 +299,11 @@ public class AddPersonCommandTest {
             return currentWedding;
         }
 
+        @Override
+        public int getTableIdOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Wedding findWeddingByName(String weddingName) {
             throw new AssertionError("This method should not be called.");
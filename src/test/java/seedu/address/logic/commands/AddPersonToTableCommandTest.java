@@ -43,8 +43,7 @@ public class AddPersonToTableCommandTest {
                 new Address("123 Street"),
                 new HashSet<>(),
                 new DietaryRestriction(DietaryRestriction.TypicalRestriction.NONE),
-                new Rsvp(Rsvp.Status.YES),
-                -1
+                new Rsvp(Rsvp.Status.YES)
         );
 
         model.addPerson(person);
@@ -100,8 +99,7 @@ public class AddPersonToTableCommandTest {
                 new Address("456 Lane"),
                 new HashSet<>(),
                 new DietaryRestriction(DietaryRestriction.TypicalRestriction.NONE),
-                new Rsvp(Rsvp.Status.YES),
-                -1
+                new Rsvp(Rsvp.Status.YES)
         );
 
         model.addPerson(other);
@@ -8,7 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,7 +36,7 @@ public class DeletePersonCommandTest {
         DeletePersonCommand deletePersonCommand = new DeletePersonCommand(Index.fromOneBased(1));
 
         String expectedMessage = String.format(DeletePersonCommand.MESSAGE_DELETE_PERSON_SUCCESS,
-                Messages.format(personToDelete));
+                Messages.format(personToDelete, model.getTableIdOf(personToDelete)));
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deletePerson(personToDelete);
@@ -42,6 +44,19 @@ public class DeletePersonCommandTest {
         assertCommandSuccess(deletePersonCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_seatedPerson_messageShowsTable() throws Exception {
+        Model seatedModel = new ModelManager(getTypicalAddressBook2(), new UserPrefs());
+        DeletePersonCommand deletePersonCommand = new DeletePersonCommand(INDEX_SECOND_PERSON); // Benson, at table 2
+
+        String feedback = deletePersonCommand.execute(seatedModel).getFeedbackToUser();
+
+        assertEquals("Deleted Person: Name: " + BENSON.getName() + "; Phone: " + BENSON.getPhone()
+                + "; Email: " + BENSON.getEmail() + "; Address: " + BENSON.getAddress() + "; Tags: []"
+                + "; Dietary Restriction: " + BENSON.getDietaryRestriction() + "; RSVP: " + BENSON.getRsvp()
+                + "; Table: 2", feedback);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -58,7 +73,7 @@ public class DeletePersonCommandTest {
         DeletePersonCommand deletePersonCommand = new DeletePersonCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(DeletePersonCommand.MESSAGE_DELETE_PERSON_SUCCESS,
-                Messages.format(personToDelete));
+                Messages.format(personToDelete, model.getTableIdOf(personToDelete)));
         AddressBook ab = new AddressBook();
         ab.addWedding(model.getCurrentWedding());
         ab.setCurrentWedding(model.getCurrentWedding());
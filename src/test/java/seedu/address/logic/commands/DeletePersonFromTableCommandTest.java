@@ -42,8 +42,7 @@ public class DeletePersonFromTableCommandTest {
                 new Address("123 Street"),
                 new HashSet<>(),
                 new DietaryRestriction(DietaryRestriction.TypicalRestriction.NONE),
-                new Rsvp(Rsvp.Status.YES),
-                -1);
+                new Rsvp(Rsvp.Status.YES));
 
         model.addPerson(guest);
         model.addPersonToTableById(guest, 1);
@@ -0,0 +1,255 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_TABLE_FULL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportGuestsCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags,dietary restriction,rsvp,table";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        Wedding wedding = new Wedding("Test Wedding");
+        model.addWedding(wedding);
+        model.setCurrentWedding(wedding);
+        model.addTable(new Table(1, 2));
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportGuestsCommand(null));
+    }
+
+    @Test
+    public void execute_noWeddingSet_throwsCommandException() throws Exception {
+        Path file = writeCsv("noWedding.csv", HEADER);
+        ImportGuestsCommand command = new ImportGuestsCommand(file);
+        CommandException exception = assertThrows(CommandException.class, () -> command.execute(new ModelManager()));
+        assertEquals(Messages.MESSAGE_NO_CURRENT_WEDDING, exception.getMessage());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportGuestsCommand command = new ImportGuestsCommand(testFolder.resolve("missing.csv"));
+        CommandException exception = assertThrows(CommandException.class, () -> command.execute(model));
+        assertTrue(exception.getMessage().startsWith("Could not read the file"));
+    }
+
+    @Test
+    public void execute_validFile_addsGuestsInOneChange() throws Exception {
+        Path file = writeCsv("valid.csv",
+                HEADER,
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6\",friends,none,yes,1",
+                "",
+                "Benson Meier,98765432,johnd@example.com,311 Clementi Ave 2,owesMoney friends,vegan,no,",
+                "Carl Kurz,95352563,heinz@example.com,\"wall \"\"street\"\"\",,halal,no_response,1");
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        CommandResult result = new ImportGuestsCommand(file).execute(model);
+
+        assertEquals(String.format(ImportGuestsCommand.MESSAGE_SUCCESS, 3, file), result.getFeedbackToUser());
+        assertEquals(1, changes.size());
+        List<Person> guests = model.getAddressBook().getPersonList();
+        assertEquals(3, guests.size());
+        assertEquals(new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").withTags("friends")
+                .build().toString(), guests.get(0).toString());
+        assertEquals("wall \"street\"", guests.get(2).getAddress().value);
+        assertEquals(2, model.findTableById(1).getSize());
+        assertTrue(model.getCurrentWedding().isSeated(guests.get(0)));
+        assertFalse(model.getCurrentWedding().isSeated(guests.get(1)));
+    }
+
+    @Test
+    public void execute_byteOrderMark_skipsHeader() throws Exception {
+        Path file = writeCsv("byteOrderMark.csv",
+                "\uFEFF" + HEADER,
+                "Alice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,none,yes,");
+
+        new ImportGuestsCommand(file).execute(model);
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_byteOrderMarkWithoutHeader_readsFirstGuest() throws Exception {
+        Path file = writeCsv("byteOrderMarkNoHeader.csv",
+                "\uFEFFAlice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,none,yes,");
+
+        new ImportGuestsCommand(file).execute(model);
+
+        assertEquals(new Name("Alice Pauline"), model.getAddressBook().getPersonList().get(0).getName());
+    }
+
+    @Test
+    public void execute_invalidLines_reportsEveryLineAndAddsNothing() throws Exception {
+        Path file = writeCsv("invalid.csv",
+                HEADER,
+                "Alice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,none,yes,",
+                "Benson Meier,12,johnd@example.com,311 Clementi Ave 2,,none,yes,",
+                "Carl Kurz,95352563,heinz@example.com,wall street,,none,yes",
+                "Daniel Meier,87652533,cornelia@example.com,\"10th street,,none,yes,",
+                "Elle Meyer,9482224,werner@example.com,michegan ave,,none,maybe,");
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportGuestsCommand(file).execute(model));
+
+        assertEquals(String.join("\n",
+                String.format(ImportGuestsCommand.MESSAGE_INVALID_LINES, 4, file),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 3, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(ImportGuestsCommand.MESSAGE_WRONG_FIELD_COUNT, 8, 7)),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 5, ImportGuestsCommand.MESSAGE_UNCLOSED_QUOTE),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 6,
+                        "Invalid RSVP status: 'maybe'. It should be Yes, No or No_Response. (case insensitive)")),
+                exception.getMessage());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_conflictingLines_reportsLinesAndAddsNothing() throws Exception {
+        model.addPerson(new PersonBuilder().withName("Alice Pauline").build());
+        Path file = writeCsv("conflicting.csv",
+                "Alice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,none,yes,",
+                "Benson Meier,98765432,johnd@example.com,311 Clementi Ave 2,,none,yes,1",
+                "benson meier,98765432,johnd@example.com,311 Clementi Ave 2,,none,yes,",
+                "Carl Kurz,95352563,heinz@example.com,wall street,,none,yes,1",
+                "Daniel Meier,87652533,cornelia@example.com,10th street,,none,yes,1",
+                "Elle Meyer,94822240,werner@example.com,michegan ave,,none,yes,2");
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportGuestsCommand(file).execute(model));
+
+        assertEquals(String.join("\n",
+                String.format(ImportGuestsCommand.MESSAGE_INVALID_LINES, 4, file),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 1, ImportGuestsCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(ImportGuestsCommand.MESSAGE_DUPLICATE_LINE, 2)),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 5, String.format(MESSAGE_TABLE_FULL, 1)),
+                String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 6,
+                        String.format(ImportGuestsCommand.MESSAGE_TABLE_NOT_FOUND, 2))),
+                exception.getMessage());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(0, model.findTableById(1).getSize());
+    }
+
+    @Test
+    public void execute_manyInvalidLines_listsOnlyFirstErrors() throws Exception {
+        String[] lines = new String[ImportGuestsCommand.MAX_LINE_ERRORS_SHOWN + 5];
+        Arrays.fill(lines, "not a guest");
+        Path file = writeCsv("manyInvalid.csv", lines);
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportGuestsCommand(file).execute(model));
+
+        String[] messageLines = exception.getMessage().split("\n");
+        assertEquals(ImportGuestsCommand.MAX_LINE_ERRORS_SHOWN + 2, messageLines.length);
+        assertEquals(String.format(ImportGuestsCommand.MESSAGE_MORE_ERRORS, 5),
+                messageLines[messageLines.length - 1]);
+    }
+
+    @Test
+    public void execute_tenThousandGuests_addsAllInOneChange() throws Exception {
+        String[] lines = new String[10_000];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "Guest " + i + "," + (10_000_000 + i) + ",guest" + i + "@example.com,"
+                    + "\"" + i + ", Wedding Street\",friends,none,yes,";
+        }
+        Path file = writeCsv("tenThousand.csv", lines);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        assertTimeout(Duration.ofSeconds(10), () -> new ImportGuestsCommand(file).execute(model));
+
+        assertEquals(1, changes.size());
+        assertEquals(lines.length, model.getAddressBook().getPersonList().size());
+        assertEquals(new Name("Guest 9999"), model.getAddressBook().getPersonList().get(9999).getName());
+    }
+
+    @Test
+    public void execute_invalidLineAfterManyLines_reportsItsLineNumber() throws Exception {
+        String[] lines = new String[1_200];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "Guest " + i + "," + (10_000_000 + i) + ",guest" + i + "@example.com,street,,none,yes,";
+        }
+        lines[1_100] = "not a guest";
+        Path file = writeCsv("lateInvalid.csv", lines);
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new ImportGuestsCommand(file).execute(model));
+
+        assertTrue(exception.getMessage().endsWith(String.format(ImportGuestsCommand.MESSAGE_LINE_ERROR, 1_101,
+                String.format(ImportGuestsCommand.MESSAGE_WRONG_FIELD_COUNT, 8, 1))));
+    }
+
+    @Test
+    public void splitFields() throws Exception {
+        assertEquals(Arrays.asList("a", "", "b c", ""), ImportGuestsCommand.splitFields("a,,b c,"));
+        assertEquals(Arrays.asList("a, b", "say \"hi\"", "c"),
+                ImportGuestsCommand.splitFields("\"a, b\",\"say \"\"hi\"\"\",c"));
+        assertEquals(Arrays.asList(""), ImportGuestsCommand.splitFields(""));
+        ParseException exception = assertThrows(ParseException.class, () ->
+                ImportGuestsCommand.splitFields("\"a,b"));
+        assertEquals(ImportGuestsCommand.MESSAGE_UNCLOSED_QUOTE, exception.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        ImportGuestsCommand command = new ImportGuestsCommand(testFolder.resolve("guests.csv"));
+
+        // same values -> returns true
+        assertEquals(command, new ImportGuestsCommand(testFolder.resolve("guests.csv")));
+
+        // same object -> returns true
+        assertEquals(command, command);
+
+        // null -> returns false
+        assertNotEquals(null, command);
+
+        // different file -> returns false
+        assertNotEquals(command, new ImportGuestsCommand(testFolder.resolve("other.csv")));
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.person.Rsvp;
 import seedu.address.model.wedding.Wedding;
 
 /**
@@ -43,6 +44,10 @@ public class WeddingOverviewCommandTest {
                 "John and Jane's Wedding",
                 testWedding.getTableList().asUnmodifiableObservableList().size(),
                 testWedding.getUniquePersonList().size(),
+                testWedding.getUnseatedCount(),
+                testWedding.getGuestCounts().getCount(Rsvp.Status.YES),
+                testWedding.getGuestCounts().getCount(Rsvp.Status.NO),
+                testWedding.getGuestCounts().getCount(Rsvp.Status.NO_RESPONSE),
                 formattedGuestList);
 
         assertEquals(expectedMessage, result.getFeedbackToUser());
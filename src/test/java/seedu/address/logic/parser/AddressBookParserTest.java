@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RSVP;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +27,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterPersonsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportGuestsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -56,6 +58,13 @@ public class AddressBookParserTest {
         assertEquals(new DeleteWeddingCommand("Default Wedding"), command);
     }
 
+    @Test
+    public void parseCommand_importGuests() throws Exception {
+        ImportGuestsCommand command = (ImportGuestsCommand) parser.parseCommand(
+            ImportGuestsCommand.COMMAND_WORD + " data/guests.csv");
+        assertEquals(new ImportGuestsCommand(Paths.get("data/guests.csv")), command);
+    }
+
 
     // @Test
     // public void parseCommand_setWedding() throws Exception {
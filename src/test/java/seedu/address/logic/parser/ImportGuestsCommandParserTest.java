@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportGuestsCommand;
+
+public class ImportGuestsCommandParserTest {
+
+    private final ImportGuestsCommandParser parser = new ImportGuestsCommandParser();
+
+    @Test
+    public void parse_filePath_returnsImportGuestsCommand() {
+        assertParseSuccess(parser, "  data/guests.csv ", new ImportGuestsCommand(Paths.get("data/guests.csv")));
+        assertParseSuccess(parser, "guest list.csv", new ImportGuestsCommand(Paths.get("guest list.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGuestsCommand.MESSAGE_USAGE));
+    }
+}
@@ -89,6 +89,58 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonList_switchCurrentWedding_showsNewWeddingGuests() {
+        Wedding first = new Wedding("First");
+        Wedding second = new Wedding("Second");
+        second.addPerson(ALICE);
+        addressBook.addWedding(first);
+        addressBook.addWedding(second);
+
+        addressBook.setCurrentWedding(first);
+        ObservableList<Person> personList = addressBook.getPersonList();
+        assertTrue(personList.isEmpty());
+
+        addressBook.setCurrentWedding(second);
+        assertEquals(Collections.singletonList(ALICE), personList);
+    }
+
+    @Test
+    public void getPersonList_addPersonToCurrentWedding_viewUpdated() {
+        addressBook.addWedding(new Wedding("Test"));
+        addressBook.setCurrentWeddingByName("Test");
+        ObservableList<Person> personList = addressBook.getPersonList();
+        addressBook.addPerson(ALICE);
+        assertEquals(addressBook.getCurrentWedding().getUniquePersonList().asUnmodifiableObservableList(),
+                personList);
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        addressBook.addWedding(new Wedding("Test"));
+        addressBook.setCurrentWeddingByName("Test");
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getVersion_changesInsideAndOutsideWeddings_versionIncreases() {
+        long version = addressBook.getVersion();
+        addressBook.addWedding(new Wedding("Test"));
+        long afterAddWedding = addressBook.getVersion();
+        assertTrue(afterAddWedding > version);
+
+        addressBook.setCurrentWeddingByName("Test");
+        assertEquals(afterAddWedding, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long afterAddPerson = addressBook.getVersion();
+        assertTrue(afterAddPerson > afterAddWedding);
+
+        addressBook.deleteWeddingByName("Test");
+        assertTrue(addressBook.getVersion() > afterAddPerson);
+    }
+
     @Test
     public void noCurrentWedding_addPerson_throwsNoCurrentWeddingException() {
         AddressBookStubWithoutWedding addressBookStub = new AddressBookStubWithoutWedding();
@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -51,6 +56,10 @@ public class EmailTest {
         assertFalse(Email.isValidEmail("peterjack@-example.com")); // domain name starts with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.com-")); // domain name ends with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.c")); // top level domain has less than two chars
+        assertFalse(Email.isValidEmail("peterjack@example.c-m")); // top level domain has no two chars in a row
+        assertFalse(Email.isValidEmail("peterjack@example..com")); // domain name has two consecutive periods
+        assertFalse(Email.isValidEmail("peterjack@example.c--om")); // domain label has two consecutive hyphens
+        assertFalse(Email.isValidEmail("peterjäck@example.com")); // non-ascii letter in local part
 
         // valid email
         assertTrue(Email.isValidEmail("PeterJack_1190@example.com")); // underscore in local part
@@ -66,6 +75,35 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_sameAsValidationRegex() {
+        Pattern pattern = Pattern.compile(Email.VALIDATION_REGEX);
+        char[] alphabet = {'a', '1', '-', '.', '_', '@'};
+        char[] chars = new char[6];
+        for (int length = 0; length <= chars.length; length++) {
+            int combinations = (int) Math.pow(alphabet.length, length);
+            for (int combination = 0; combination < combinations; combination++) {
+                for (int i = 0, rest = combination; i < length; i++, rest /= alphabet.length) {
+                    chars[i] = alphabet[rest % alphabet.length];
+                }
+                String test = new String(chars, 0, length);
+                assertEquals(pattern.matcher(test).matches(), Email.isValidEmail(test), test);
+            }
+        }
+    }
+
+    @Test
+    public void isValidEmail_pathologicalInput_returnsQuickly() {
+        String longLabel = "a".repeat(5000);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertFalse(Email.isValidEmail("peterjack@" + longLabel + "!"));
+            assertFalse(Email.isValidEmail("peterjack@" + "a-".repeat(5000) + "!"));
+            assertFalse(Email.isValidEmail("peterjack@" + "a.".repeat(5000) + "!"));
+            assertFalse(Email.isValidEmail(longLabel + "@".repeat(5000)));
+            assertTrue(Email.isValidEmail("peterjack@" + longLabel));
+        });
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBitmapIndexTest {
+    private UniquePersonList uniquePersonList;
+    private PersonBitmapIndex index;
+    private Person veganAlice;
+
+    @BeforeEach
+    public void setUp() {
+        uniquePersonList = new UniquePersonList();
+        index = uniquePersonList.getBitmapIndex();
+        veganAlice = new PersonBuilder(ALICE).withDietaryRestriction(TypicalRestriction.VEGAN)
+                .withTags("friends").build();
+        uniquePersonList.add(veganAlice);
+        uniquePersonList.add(BOB);
+    }
+
+    @Test
+    public void select_restrictionAndStatus_returnsMatchingPersons() {
+        assertEquals(1, index.select(TypicalRestriction.VEGAN, null).cardinality());
+        assertEquals(1, index.select(null, Status.NO).cardinality());
+        assertEquals(0, index.select(TypicalRestriction.VEGAN, Status.NO).cardinality());
+        assertEquals(2, index.select(null, null).cardinality());
+        assertTrue(index.isSelected(veganAlice, index.select(TypicalRestriction.VEGAN, Status.YES)));
+    }
+
+    @Test
+    public void selectTagged_returnsTaggedPersons() {
+        assertTrue(index.isSelected(veganAlice, index.selectTagged(new Tag("friends"))));
+        assertEquals(0, index.selectTagged(new Tag("colleagues")).cardinality());
+    }
+
+    @Test
+    public void selectNameContainingAny_returnsUnionOfPostings() {
+        // ALICE is "Alice Pauline", BOB is "Bob Choo"
+        assertEquals(2, index.selectNameContainingAny(List.of("alice", "CHOO")).cardinality());
+        assertEquals(1, index.selectNameContainingAny(List.of("pauline", "nobody")).cardinality());
+        assertEquals(0, index.selectNameContainingAny(List.of("Ali")).cardinality());
+    }
+
+    @Test
+    public void selectNameContainingAny_afterRename_usesNewName() {
+        Person renamedAlice = new PersonBuilder(veganAlice).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(veganAlice, renamedAlice);
+        assertEquals(0, index.selectNameContainingAny(List.of("alice")).cardinality());
+        assertTrue(index.isSelected(renamedAlice, index.selectNameContainingAny(List.of("alicia"))));
+        assertTrue(index.isSelected(renamedAlice, index.selectNameContainingAny(List.of("pauline"))));
+    }
+
+    @Test
+    public void setPerson_seatedPerson_keepsSeatAndReindexesDetails() {
+        uniquePersonList.setSeated(veganAlice, true);
+        Person editedAlice = new PersonBuilder(veganAlice).withRsvp(Status.NO).build();
+        uniquePersonList.setPerson(veganAlice, editedAlice);
+
+        assertTrue(index.isSelected(editedAlice, index.selectSeated(true)));
+        assertTrue(index.isSelected(editedAlice, index.select(TypicalRestriction.VEGAN, Status.NO)));
+        assertEquals(0, index.select(null, Status.YES).cardinality());
+    }
+
+    @Test
+    public void delete_freesSlotForNextPerson() {
+        uniquePersonList.setSeated(veganAlice, true);
+        uniquePersonList.delete(veganAlice);
+        assertEquals(1, index.select(null, null).cardinality());
+        assertEquals(0, index.selectSeated(true).cardinality());
+
+        uniquePersonList.add(ALICE);
+        assertTrue(index.isSelected(ALICE, index.selectSeated(false)));
+        assertFalse(index.isSelected(veganAlice, index.select(null, null)));
+    }
+
+    @Test
+    public void matching_listChangesAfterCreation_reflectsChanges() {
+        Predicate<Person> saidNo = index.matching(null, Status.NO);
+        assertTrue(saidNo.test(BOB));
+        assertFalse(saidNo.test(veganAlice));
+
+        Person editedAlice = new PersonBuilder(veganAlice).withRsvp(Status.NO).build();
+        uniquePersonList.setPerson(veganAlice, editedAlice);
+        assertTrue(saidNo.test(editedAlice));
+
+        // Persons outside the list are tested on their details
+        Person outsider = new PersonBuilder().withName("Outsider").withRsvp(Status.NO).build();
+        assertTrue(saidNo.test(outsider));
+    }
+}
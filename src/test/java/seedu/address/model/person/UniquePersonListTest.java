@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +16,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +49,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(lowerCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +118,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesNameLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.hasPersonByName(ALICE.getName()));
+        assertEquals(BOB, uniquePersonList.findPersonByName(BOB.getName()));
+    }
+
     @Test
     public void delete_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.delete(null));
@@ -127,6 +144,13 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void delete_existingPerson_removesNameLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.delete(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.findPersonByName(ALICE.getName()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -168,6 +192,85 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getGuestCounts_afterAddEditAndDelete_keptUpToDate() {
+        Person veganAlice = new PersonBuilder(ALICE)
+                .withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN)
+                .withRsvp(Rsvp.Status.NO_RESPONSE).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, veganAlice);
+
+        GuestCounts guestCounts = uniquePersonList.getGuestCounts();
+        assertEquals(2, guestCounts.getTotal());
+        assertEquals(1, guestCounts.getCount(DietaryRestriction.TypicalRestriction.VEGAN));
+        assertEquals(1, guestCounts.getCount(Rsvp.Status.NO_RESPONSE));
+        assertEquals(0, guestCounts.getCount(Rsvp.Status.YES));
+
+        uniquePersonList.delete(veganAlice);
+        assertEquals(1, guestCounts.getTotal());
+        assertEquals(0, guestCounts.getCount(DietaryRestriction.TypicalRestriction.VEGAN));
+        assertEquals(0, guestCounts.getCount(Rsvp.Status.NO_RESPONSE));
+    }
+
+    @Test
+    public void getGuestCounts_afterSetPersons_recounted() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList.getGuestCounts(), uniquePersonList.getGuestCounts());
+    }
+
+    @Test
+    public void addAll_uniquePersons_addedWithSingleChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.hasPersonByName(CARL.getName()));
+        assertEquals(3, uniquePersonList.getGuestCounts().getTotal());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_duplicateWithinBatch_throwsDuplicatePersonException() {
+        Person otherBob = new PersonBuilder(BOB).withName(BOB.getName().fullName.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, otherBob)));
+        assertTrue(uniquePersonList.isEmpty());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_addsNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(1, uniquePersonList.size());
+        assertFalse(uniquePersonList.hasPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void setSeated_afterEarlierPersonDeleted_replacesOnlyThatPerson() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.delete(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withName("Bobby Choo").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        int[] changedPosition = {-1};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                changedPosition[0] = change.getFrom();
+            }
+        });
+
+        uniquePersonList.setSeated(CARL, true);
+
+        assertEquals(1, changedPosition[0]);
+        assertEquals(Arrays.asList(editedBob, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setSeated(ALICE, true));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.testutil.PersonBuilder;
@@ -35,6 +36,16 @@ public class TableTest {
         assertThrows(IllegalArgumentException.class, () -> new Table(0, 5));
     }
 
+    @Test
+    public void constructorWithPersons_idOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Table.ID_CONSTRAINTS, () ->
+                new Table(0, 5, new UniquePersonList()));
+        assertThrows(IllegalArgumentException.class, Table.ID_CONSTRAINTS, () ->
+                new Table(Table.MAX_TABLE_ID + 1, 5, new UniquePersonList()));
+        assertThrows(IllegalArgumentException.class, Table.ID_CONSTRAINTS, () ->
+                new Table(Integer.MAX_VALUE, 5, new UniquePersonList()));
+    }
+
     @Test
     public void constructor_invalidCapacity_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new Table(1, -1));
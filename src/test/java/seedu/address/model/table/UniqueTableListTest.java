@@ -3,20 +3,26 @@ package seedu.address.model.table;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.table.exceptions.DuplicateTableException;
+import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -79,6 +85,21 @@ public class UniqueTableListTest {
         assertThrows(TableNotFoundException.class, () -> uniqueTableList.findTableById(100));
     }
 
+    @Test
+    public void getTableById_notFound_returnsNull() {
+        uniqueTableList.addTable(table1);
+        assertNull(uniqueTableList.getTableById(2));
+        assertNull(uniqueTableList.getTableById(-1));
+        assertNull(uniqueTableList.getTableById(1000));
+    }
+
+    @Test
+    public void getTableById_largestId_success() {
+        Table largeIdTable = new Table(Table.MAX_TABLE_ID, 4, new UniquePersonList());
+        uniqueTableList.addTable(largeIdTable);
+        assertEquals(largeIdTable, uniqueTableList.getTableById(Table.MAX_TABLE_ID));
+    }
+
     @Test
     public void addPersonToTable_success() {
         uniqueTableList.addTable(table1);
@@ -88,6 +109,42 @@ public class UniqueTableListTest {
         assertTrue(updated.getAllPersons().contains(alice));
     }
 
+    @Test
+    public void addPersonToTable_updatesStoredTableInPlace() {
+        uniqueTableList.addTable(table1);
+        uniqueTableList.addPersonToTable(alice, table1);
+        assertSame(table1, uniqueTableList.findTableById(1));
+        assertEquals(1, table1.getSize());
+    }
+
+    @Test
+    public void addPersonToTable_afterEarlierTableDeleted_replacesOnlyThatTable() {
+        Table table3 = new Table(3, 4);
+        uniqueTableList.setTables(Arrays.asList(table1, table2, table3));
+        uniqueTableList.deleteTable(table1);
+        List<Integer> changedPositions = new ArrayList<>();
+        uniqueTableList.asUnmodifiableObservableList().addListener((ListChangeListener<Table>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                changedPositions.add(change.getFrom());
+            }
+        });
+
+        uniqueTableList.addPersonToTable(alice, table3);
+
+        assertEquals(List.of(1), changedPositions);
+        assertEquals(List.of(table2, table3), uniqueTableList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addPersonToTable_tableFull_throwsException() {
+        Table singleSeatTable = new Table(3, 1);
+        uniqueTableList.addTable(singleSeatTable);
+        uniqueTableList.addPersonToTable(alice, singleSeatTable);
+        assertThrows(TableFullException.class, () -> uniqueTableList.addPersonToTable(bob, singleSeatTable));
+        assertEquals(1, singleSeatTable.getSize());
+    }
+
     @Test
     public void deletePersonFromTable_success() {
         uniqueTableList.addTable(table1);
@@ -104,6 +161,13 @@ public class UniqueTableListTest {
         assertEquals(10, uniqueTableList.findTableById(1).getCapacity());
     }
 
+    @Test
+    public void setTable_editedTableIdInUse_throwsException() {
+        uniqueTableList.addTable(table1);
+        uniqueTableList.addTable(table2);
+        assertThrows(DuplicatePersonException.class, () -> uniqueTableList.setTable(table1, new Table(2, 10)));
+    }
+
     @Test
     public void setTables_success() {
         uniqueTableList.setTables(Arrays.asList(table1, table2));
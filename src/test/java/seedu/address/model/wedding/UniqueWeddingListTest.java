@@ -0,0 +1,77 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.wedding.exceptions.DuplicateWeddingException;
+import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
+
+public class UniqueWeddingListTest {
+    private UniqueWeddingList uniqueWeddingList;
+    private Wedding wedding;
+
+    @BeforeEach
+    public void setUp() {
+        uniqueWeddingList = new UniqueWeddingList();
+        wedding = new Wedding("Alice and Bob");
+    }
+
+    @Test
+    public void findWeddingByName_differentCase_success() {
+        uniqueWeddingList.addWedding(wedding);
+        assertSame(wedding, uniqueWeddingList.findWeddingByName("ALICE AND BOB"));
+    }
+
+    @Test
+    public void findWeddingByName_notFound_throwsWeddingNotFoundException() {
+        assertThrows(WeddingNotFoundException.class, () -> uniqueWeddingList.findWeddingByName("Alice and Bob"));
+    }
+
+    @Test
+    public void contains_weddingWithSameNameDifferentGuests_returnsTrue() {
+        uniqueWeddingList.addWedding(wedding);
+        Wedding otherWedding = new Wedding("alice and bob");
+        otherWedding.addPerson(ALICE);
+        assertTrue(uniqueWeddingList.contains(otherWedding));
+    }
+
+    @Test
+    public void hasWedding_equalButDifferentInstance_returnsFalse() {
+        uniqueWeddingList.addWedding(wedding);
+        assertTrue(uniqueWeddingList.hasWedding(wedding));
+        assertFalse(uniqueWeddingList.hasWedding(new Wedding(wedding)));
+    }
+
+    @Test
+    public void deleteWedding_existingWedding_removesNameLookup() {
+        uniqueWeddingList.addWedding(wedding);
+        uniqueWeddingList.deleteWedding(wedding);
+        assertEquals(0, uniqueWeddingList.size());
+        assertFalse(uniqueWeddingList.hasWeddingByName("Alice and Bob"));
+    }
+
+    @Test
+    public void setWedding_renamedWedding_updatesNameLookup() {
+        uniqueWeddingList.addWedding(wedding);
+        Wedding renamedWedding = new Wedding("Carl and Dana");
+        uniqueWeddingList.setWedding(wedding, renamedWedding);
+        assertFalse(uniqueWeddingList.hasWeddingByName("Alice and Bob"));
+        assertSame(renamedWedding, uniqueWeddingList.findWeddingByName("carl and dana"));
+    }
+
+    @Test
+    public void setWedding_editedWeddingHasNonUniqueName_throwsDuplicateWeddingException() {
+        Wedding otherWedding = new Wedding("Carl and Dana");
+        uniqueWeddingList.addWedding(wedding);
+        uniqueWeddingList.addWedding(otherWedding);
+        assertThrows(DuplicateWeddingException.class, () ->
+                uniqueWeddingList.setWedding(wedding, new Wedding("CARL AND DANA")));
+    }
+}
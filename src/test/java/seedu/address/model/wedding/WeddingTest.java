@@ -0,0 +1,210 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.table.Table;
+import seedu.address.model.table.exceptions.TableFullException;
+import seedu.address.model.table.exceptions.TableNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class WeddingTest {
+
+    /**
+     * A compact form that holds a copy of the wedding.
+     */
+    private static class CompactWeddingStub implements CompactWedding {
+        private final Wedding wedding;
+
+        CompactWeddingStub(Wedding wedding) {
+            this.wedding = new Wedding(wedding);
+        }
+
+        @Override
+        public Wedding expand() {
+            return new Wedding(wedding);
+        }
+
+        @Override
+        public CompactWedding compact(Wedding wedding) {
+            return new CompactWeddingStub(wedding);
+        }
+    }
+
+    private Wedding wedding;
+    private Table table1;
+    private Table table2;
+
+    @BeforeEach
+    public void setUp() {
+        wedding = new Wedding("Test Wedding");
+        table1 = new Table(1, 1);
+        table2 = new Table(2, 5);
+        wedding.addTable(table1);
+        wedding.addTable(table2);
+        wedding.addPerson(ALICE);
+    }
+
+    @Test
+    public void addPersonToTable_unseatedPerson_seatsSamePerson() {
+        wedding.addPersonToTable(ALICE, table1);
+        assertEquals(1, wedding.getTableIdOf(ALICE));
+        assertSame(ALICE, wedding.findPersonByName(ALICE.getName()));
+        assertSame(ALICE, table1.getAllPersons().get(0));
+    }
+
+    @Test
+    public void addPersonToTable_seatedPerson_movesPerson() {
+        wedding.addPersonToTable(ALICE, table1);
+        wedding.addPersonToTable(ALICE, table2);
+        assertEquals(2, wedding.getTableIdOf(ALICE));
+        assertEquals(0, table1.getSize());
+        assertEquals(1, table2.getSize());
+    }
+
+    @Test
+    public void addPersonToTable_tableFull_keepsOldSeat() {
+        wedding.addPerson(BOB);
+        wedding.addPersonToTable(BOB, table1);
+        wedding.addPersonToTable(ALICE, table2);
+        assertThrows(TableFullException.class, () -> wedding.addPersonToTable(ALICE, table1));
+        assertEquals(2, wedding.getTableIdOf(ALICE));
+    }
+
+    @Test
+    public void setPerson_seatedPerson_keepsSeat() {
+        wedding.addPersonToTable(ALICE, table2);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+        wedding.setPerson(ALICE, editedAlice);
+        assertEquals(2, wedding.getTableIdOf(editedAlice));
+        assertFalse(wedding.isSeated(ALICE));
+        assertTrue(table2.getAllPersons().contains(editedAlice));
+    }
+
+    @Test
+    public void deletePerson_seatedPerson_removedFromTable() {
+        wedding.addPersonToTable(ALICE, table2);
+        wedding.deletePerson(ALICE);
+        assertFalse(wedding.hasPerson(ALICE));
+        assertFalse(wedding.isSeated(ALICE));
+        assertEquals(0, table2.getSize());
+    }
+
+    @Test
+    public void deleteTable_seatedGuests_unseated() {
+        wedding.addPersonToTable(ALICE, table2);
+        wedding.deleteTable(table2);
+        assertFalse(wedding.isSeated(ALICE));
+        assertEquals(SeatingPlan.UNSEATED, wedding.getTableIdOf(ALICE));
+        assertTrue(wedding.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getUnseatedCount_afterSeatingAndUnseating_keptUpToDate() {
+        wedding.addPerson(BOB);
+        assertEquals(2, wedding.getUnseatedCount());
+        wedding.addPersonToTable(ALICE, table2);
+        assertEquals(1, wedding.getUnseatedCount());
+        assertEquals(1, table2.getGuestCounts().getTotal());
+        wedding.deletePersonFromTable(ALICE, table2);
+        assertEquals(2, wedding.getUnseatedCount());
+        assertEquals(0, table2.getGuestCounts().getTotal());
+    }
+
+    @Test
+    public void loadGuests_seatsGuestsInOnePass() {
+        Wedding loaded = new Wedding("Loaded Wedding");
+        Table table = new Table(3, 2);
+        loaded.addTable(table);
+        loaded.loadGuests(List.of(ALICE, BOB, CARL), new int[] {3, SeatingPlan.UNSEATED, 3});
+
+        assertEquals(3, loaded.getUniquePersonList().size());
+        assertEquals(3, loaded.getTableIdOf(ALICE));
+        assertFalse(loaded.isSeated(BOB));
+        assertEquals(2, table.getSize());
+        assertEquals(1, loaded.getUnseatedCount());
+        assertEquals(2, loaded.getUniquePersonList().getBitmapIndex().selectSeated(true).cardinality());
+    }
+
+    @Test
+    public void loadGuests_tableOverCapacity_nothingLoaded() {
+        Wedding loaded = new Wedding("Loaded Wedding");
+        loaded.addTable(new Table(3, 1));
+        assertThrows(TableFullException.class, () -> loaded.loadGuests(List.of(ALICE, BOB), new int[] {3, 3}));
+        assertTrue(loaded.getUniquePersonList().isEmpty());
+    }
+
+    @Test
+    public void loadGuests_invalidBatch_nothingLoaded() {
+        Wedding loaded = new Wedding("Loaded Wedding");
+        loaded.addTable(new Table(3, 5));
+        assertThrows(TableNotFoundException.class, () -> loaded.loadGuests(List.of(ALICE), new int[] {4}));
+        assertThrows(DuplicatePersonException.class, () ->
+                loaded.loadGuests(List.of(ALICE, ALICE), new int[] {3, SeatingPlan.UNSEATED}));
+        assertTrue(loaded.getUniquePersonList().isEmpty());
+        assertEquals(0, loaded.findTableById(3).getSize());
+    }
+
+    @Test
+    public void compactedWedding_firstUse_builtFromCompactForm() {
+        wedding.addPersonToTable(ALICE, table2);
+        Wedding compacted = new Wedding("Test Wedding", new CompactWeddingStub(wedding));
+        long version = compacted.getVersion();
+        assertTrue(compacted.isCompacted());
+
+        assertEquals(2, compacted.getTableIdOf(ALICE));
+        assertFalse(compacted.isCompacted());
+        assertEquals(version, compacted.getVersion());
+        assertEquals(wedding, compacted);
+    }
+
+    @Test
+    public void compact_unchangedSinceBuilt_keepsCompactForm() {
+        CompactWeddingStub compactForm = new CompactWeddingStub(wedding);
+        Wedding compacted = new Wedding("Test Wedding", compactForm);
+        compacted.hasPerson(ALICE);
+        compacted.compact();
+
+        assertTrue(compacted.isCompacted());
+        assertSame(compactForm, compacted.getCompactForm().get());
+    }
+
+    @Test
+    public void compact_changedSinceBuilt_makesNewCompactForm() {
+        CompactWeddingStub compactForm = new CompactWeddingStub(wedding);
+        Wedding compacted = new Wedding("Test Wedding", compactForm);
+        compacted.addPerson(BOB);
+        assertFalse(compacted.getCompactForm().isPresent());
+
+        compacted.compact();
+        assertTrue(compacted.isCompacted());
+        assertTrue(compacted.hasPerson(BOB));
+    }
+
+    @Test
+    public void compact_neverCompacted_staysBuilt() {
+        wedding.compact();
+        assertFalse(wedding.isCompacted());
+    }
+
+    @Test
+    public void copyConstructor_changesToCopy_doNotAffectOriginal() {
+        Wedding copy = new Wedding(wedding);
+        copy.addPersonToTable(ALICE, copy.findTableById(2));
+        assertFalse(wedding.isSeated(ALICE));
+        assertEquals(0, table2.getSize());
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path snapshotPath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        snapshotPath = BinaryAddressBookStorage.getSnapshotFilePath(filePath);
+        original = getTypicalAddressBook2();
+        original.addWedding(new Wedding("Jack and Jill"));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(snapshotPath));
+        assertFalse(Files.exists(filePath));
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        // Compacted weddings are written without being built
+        storage.saveAddressBook(readBack);
+        assertTrue(readBack.getWeddingList().stream().allMatch(Wedding::isCompacted));
+        assertEquals(original, readBack);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_replacesSnapshotWithoutTempFiles() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addWedding(new Wedding("Romeo and Juliet"));
+
+        storage.saveAddressBook(readBack);
+
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(snapshotPath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(Files.size(snapshotPath) * 2 < Files.size(filePath));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_jsonDataFileRead() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notASnapshot_throwsDataLoadingException() throws Exception {
+        Files.writeString(snapshotPath, "{\"weddings\":[]}");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Files.write(snapshotPath, ByteBuffer.allocate(10).putInt(BinaryAddressBookStorage.MAGIC).putShort((short) 99)
+                .putInt(0).array());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_sharedStringsFormat_success() throws Exception {
+        byte[] name = "Jack and Jill".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer snapshot = ByteBuffer.allocate(38 + name.length).putInt(BinaryAddressBookStorage.MAGIC)
+                .putShort((short) 1).putInt(1).putInt(name.length).put(name)
+                .putInt(1).putInt(0).putInt(1).putInt(5).putInt(10).putInt(0);
+        Files.write(snapshotPath, snapshot.array());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        AddressBook expected = new AddressBook();
+        Wedding wedding = new Wedding("Jack and Jill");
+        wedding.addTable(new Table(5, 10));
+        expected.addWedding(wedding);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(expected, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertEquals(BinaryAddressBookStorage.FORMAT_VERSION, ByteBuffer.wrap(Files.readAllBytes(snapshotPath))
+                .getShort(Integer.BYTES));
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(snapshot, snapshot.length - 5));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
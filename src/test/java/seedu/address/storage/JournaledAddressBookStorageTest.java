@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        original = getTypicalAddressBook2();
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.addPersonToTableById(HOON, 2);
+        storage.saveAddressBook(original);
+        original.deletePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_guestEdited_journalsOnlyThatGuest() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+
+        String line = Files.readAllLines(journalPath).get(0);
+        assertTrue(line.contains(BENSON.getName().fullName));
+        assertFalse(line.contains(ALICE.getName().fullName));
+        assertFalse(line.contains(CARL.getName().fullName));
+        assertEquals(original, readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_replayed() throws Exception {
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = readBack(storage);
+        storage.saveAddressBook(readBack);
+
+        readBack.deletePerson(ALICE);
+        readBack.addTable(new Table(4, 2));
+        readBack.addPerson(HOON);
+        readBack.addPersonToTableById(HOON, 4);
+        storage.saveAddressBook(readBack);
+        readBack.deletePersonFromTable(CARL, 3);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, readBack(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedAppend_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Files.createDirectory(journalPath); // The journal cannot be opened for writing
+
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        Files.delete(journalPath);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, readBack(new JsonAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_nothingChanged_journalUntouched() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_weddingsAddedAndDeleted_replayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.addWedding(new Wedding("Jack and Jill"));
+        storage.saveAddressBook(original);
+        original.deleteWeddingByName("John and Jane");
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(1, readBack.getWeddingList().size());
+        assertEquals("Jack and Jill", readBack.getWeddingList().get(0).getName());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_journalCompacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, readBack(new JsonAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"savedWeddings\":[{\"na", StandardOpenOption.APPEND);
+
+        assertEquals(original, readBack(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "not json\n{}\n", StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changeToUnknownWedding_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"changedWeddings\":[{\"wedding\":\"Jack and Jill\"}]}\n",
+                StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_completed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original,
+                JournaledAddressBookStorage.getPendingSnapshotFilePath(filePath));
+
+        // Journal already deleted, so the pending snapshot is complete
+        assertEquals(original, readBack(new JournaledAddressBookStorage(filePath)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getPendingSnapshotFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    private static AddressBook readBack(AddressBookStorage storage) throws Exception {
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.setCurrentWeddingByName("John and Jane");
+        return readBack;
+    }
+}
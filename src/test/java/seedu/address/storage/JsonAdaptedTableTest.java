@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.table.Table;
+
+public class JsonAdaptedTableTest {
+
+    @Test
+    public void toModelType_validTable_returnsTable() throws Exception {
+        assertEquals(new Table(3, 8), new JsonAdaptedTable(3, 8).toModelType());
+        assertEquals(new Table(Table.MAX_TABLE_ID, 8), new JsonAdaptedTable(Table.MAX_TABLE_ID, 8).toModelType());
+    }
+
+    @Test
+    public void toModelType_idOutOfRange_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, Table.ID_CONSTRAINTS, () -> new JsonAdaptedTable(0, 8).toModelType());
+        assertThrows(IllegalValueException.class, Table.ID_CONSTRAINTS, () ->
+                new JsonAdaptedTable(Table.MAX_TABLE_ID + 1, 8).toModelType());
+        assertThrows(IllegalValueException.class, Table.ID_CONSTRAINTS, () ->
+                new JsonAdaptedTable(Integer.MAX_VALUE, 8).toModelType());
+    }
+
+    @Test
+    public void toModelType_nonPositiveCapacity_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, Table.CAPACITY_CONSTRAINTS, () ->
+                new JsonAdaptedTable(1, 0).toModelType());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.wedding.SeatingPlan;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedWeddingTest {
+
+    private static final List<JsonAdaptedTable> ONE_SEAT_TABLE = List.of(new JsonAdaptedTable(1, 1));
+
+    @Test
+    public void toCompactModelType_validWedding_equalsBuiltWedding() throws Exception {
+        Wedding original = getTypicalAddressBook2().getCurrentWedding();
+        JsonAdaptedWedding jsonWedding = new JsonAdaptedWedding(original);
+
+        Wedding compacted = jsonWedding.toCompactModelType();
+
+        assertTrue(compacted.isCompacted());
+        assertEquals(jsonWedding.toModelType(), compacted);
+        assertEquals(original, compacted);
+    }
+
+    @Test
+    public void equals_equalCompactForms_weddingsNotBuilt() throws Exception {
+        JsonAdaptedWedding jsonWedding = new JsonAdaptedWedding(getTypicalAddressBook2().getCurrentWedding());
+        Wedding compacted = jsonWedding.toCompactModelType();
+        Wedding otherCompacted = jsonWedding.toCompactModelType();
+
+        assertEquals(compacted, otherCompacted);
+        assertEquals(compacted.hashCode(), otherCompacted.hashCode());
+        assertTrue(compacted.isCompacted());
+        assertTrue(otherCompacted.isCompacted());
+    }
+
+    @Test
+    public void toCompactModelType_invalidWedding_throwsSameErrorAsToModelType() {
+        JsonAdaptedPerson aliceAtTableOne = new JsonAdaptedPerson(ALICE, 1);
+        JsonAdaptedPerson bensonAtTableOne = new JsonAdaptedPerson(BENSON, 1);
+        JsonAdaptedPerson otherAlice = new JsonAdaptedPerson(new PersonBuilder(BENSON)
+                .withName(ALICE.getName().fullName.toUpperCase()).build(), SeatingPlan.UNSEATED);
+
+        assertSameError(JsonAdaptedWedding.MISSING_NAME_MESSAGE, new JsonAdaptedWedding(null, List.of(), List.of()));
+        assertSameError(JsonAdaptedWedding.MESSAGE_DUPLICATE_TABLE, new JsonAdaptedWedding("Wedding", List.of(),
+                List.of(new JsonAdaptedTable(1, 1), new JsonAdaptedTable(1, 2))));
+        assertSameError(JsonAdaptedWedding.MESSAGE_TABLE_NOT_FOUND,
+                new JsonAdaptedWedding("Wedding", List.of(aliceAtTableOne), List.of()));
+        assertSameError(JsonAdaptedWedding.MESSAGE_TABLE_FULL,
+                new JsonAdaptedWedding("Wedding", List.of(aliceAtTableOne, bensonAtTableOne), ONE_SEAT_TABLE));
+        assertSameError(JsonAdaptedWedding.MESSAGE_DUPLICATE_GUEST,
+                new JsonAdaptedWedding("Wedding", List.of(aliceAtTableOne, otherAlice), ONE_SEAT_TABLE));
+    }
+
+    private void assertSameError(String expectedMessage, JsonAdaptedWedding jsonWedding) {
+        assertThrows(IllegalValueException.class, expectedMessage, jsonWedding::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, jsonWedding::toCompactModelType);
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,16 +11,20 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonEncoding;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -77,7 +83,7 @@ public class JsonAddressBookStorageTest {
 
         // Modify data, overwrite exiting file, and read back
 
-        Person newHoon = new Person(HOON, -1);
+        Person newHoon = HOON;
         original.addPerson(newHoon);
         original.addPersonToTableById(newHoon, 2);
         original.deletePerson(ALICE);
@@ -88,7 +94,7 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, ret);
 
         // Save and read without specifying file path
-        Person newIda = new Person(IDA, -1);
+        Person newIda = IDA;
         original.addPerson(newIda);
         original.addPersonToTableById(newIda, 3);
         jsonAddressBookStorage.saveAddressBook(original); // file path not specified
@@ -99,6 +105,87 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_unknownFieldsAndNestedValues_skipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{\"version\": {\"weddings\": [1]}, \"weddings\": [{\"name\": \"A\"}],"
+                + " \"notes\": [[], {}]}");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(1, readBack.getWeddingList().size());
+        assertEquals("A", readBack.getWeddingList().get(0).getName());
+    }
+
+    @Test
+    public void readAddressBook_weddingsCompactedUntilUsed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook2();
+        for (int i = 1; i <= AddressBook.RECENTLY_USED_WEDDING_LIMIT + 1; i++) {
+            original.addWedding(new Wedding("Wedding " + i));
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get());
+        assertTrue(readBack.getWeddingList().stream().allMatch(Wedding::isCompacted));
+
+        // Saving does not build compacted weddings
+        jsonAddressBookStorage.saveAddressBook(readBack);
+        assertTrue(readBack.getWeddingList().stream().allMatch(Wedding::isCompacted));
+
+        readBack.setCurrentWeddingByName("John and Jane");
+        assertFalse(readBack.getWeddingByName("John and Jane").isCompacted());
+        for (int i = 1; i <= AddressBook.RECENTLY_USED_WEDDING_LIMIT + 1; i++) {
+            readBack.setCurrentWeddingByName("Wedding " + i);
+        }
+        assertTrue(readBack.getWeddingList().get(0).isCompacted());
+        assertFalse(readBack.getCurrentWedding().isCompacted());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedContents_fileNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook2();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        FileTime marker = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, marker);
+
+        jsonAddressBookStorage.saveAddressBook(new AddressBook(original));
+        assertEquals(marker, Files.getLastModifiedTime(filePath));
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertNotEquals(marker, Files.getLastModifiedTime(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedEncodings_smallerAndReadBack() throws Exception {
+        Path prettyPath = testFolder.resolve("Pretty.json");
+        AddressBook original = getTypicalAddressBook2();
+        new JsonAddressBookStorage(prettyPath).saveAddressBook(original);
+
+        for (JsonEncoding encoding : new JsonEncoding[] {JsonEncoding.COMPACT, JsonEncoding.GZIP}) {
+            Path filePath = testFolder.resolve(encoding + ".json");
+            new JsonAddressBookStorage(filePath, encoding).saveAddressBook(original);
+            assertTrue(Files.size(filePath) < Files.size(prettyPath));
+
+            // Any storage reads any encoding
+            AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+            readBack.setCurrentWeddingByName("John and Jane");
+            assertEquals(original, readBack);
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicateWeddings_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{\"weddings\": [{\"name\": \"A\"}, {\"name\": \"a\"}]}");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
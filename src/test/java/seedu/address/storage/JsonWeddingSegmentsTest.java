@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonEncoding;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+
+public class JsonWeddingSegmentsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_sameAsSerializingWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook2();
+        addressBook.addWedding(new Wedding("Jack and Jill"));
+
+        JsonWeddingSegments segments = new JsonWeddingSegments();
+        segments.write(addressBook, filePath);
+        assertEquals(serialize(addressBook), Files.readString(filePath));
+
+        addressBook.addPerson(HOON); // John and Jane is the current wedding
+        segments.write(addressBook, filePath);
+        assertEquals(serialize(addressBook), Files.readString(filePath));
+
+        addressBook.deleteWeddingByName("Jack and Jill");
+        segments.write(addressBook, filePath);
+        assertEquals(serialize(addressBook), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_noWeddings_sameAsSerializingWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonWeddingSegments().write(new AddressBook(), filePath);
+        assertEquals(serialize(new AddressBook()), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compactEncoding_sameAsCompactJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook2();
+        addressBook.addWedding(new Wedding("Jack and Jill"));
+
+        new JsonWeddingSegments(JsonEncoding.COMPACT).write(addressBook, filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void write_gzipEncoding_decompressesToCompactJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook2();
+        addressBook.addWedding(new Wedding("Jack and Jill"));
+
+        JsonWeddingSegments segments = new JsonWeddingSegments(JsonEncoding.GZIP);
+        segments.write(addressBook, filePath);
+        addressBook.addPerson(HOON);
+        segments.write(addressBook, filePath);
+
+        try (InputStream in = JsonEncoding.decode(Files.newInputStream(filePath))) {
+            assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void write_compactedWeddings_sameAsSerializingBuiltWeddings() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook2();
+        addressBook.addWedding(new Wedding("Jack and Jill"));
+        AddressBook compactedAddressBook = new AddressBook();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            compactedAddressBook.addWedding(new JsonAdaptedWedding(wedding).toCompactModelType());
+        }
+
+        Path prettyPath = testFolder.resolve("Pretty.json");
+        JsonWeddingSegments prettySegments = new JsonWeddingSegments();
+        prettySegments.write(compactedAddressBook, prettyPath);
+        assertEquals(serialize(addressBook), Files.readString(prettyPath));
+        prettySegments.write(compactedAddressBook, prettyPath);
+        assertEquals(serialize(addressBook), Files.readString(prettyPath));
+
+        Path compactPath = testFolder.resolve("Compact.json");
+        new JsonWeddingSegments(JsonEncoding.COMPACT).write(compactedAddressBook, compactPath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                Files.readString(compactPath));
+        assertTrue(compactedAddressBook.getWeddingList().stream().allMatch(Wedding::isCompacted));
+    }
+
+    private static String serialize(AddressBook addressBook) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
+
+public class LogStructuredAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        original = getTypicalAddressBook2();
+        original.addWedding(new Wedding("Jack and Jill"));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        new LogStructuredAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(2, listLogs().size());
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_compactFormIsJsonAsRead() throws Exception {
+        new LogStructuredAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Wedding> readWeddings = new LogStructuredAddressBookStorage(filePath).readAddressBook().get()
+                .getWeddingList();
+        for (int i = 0; i < readWeddings.size(); i++) {
+            JsonCompactWedding compactForm = (JsonCompactWedding) readWeddings.get(i).getCompactForm().get();
+            assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedWedding(original.getWeddingList().get(i))),
+                    StandardCharsets.UTF_8.decode(compactForm.getJson()).toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_oneGuestEdited_singleAppendToItsLog() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        long indexSize = Files.size(LogStructuredAddressBookStorage.getIndexPath(filePath));
+        List<Long> logSizes = getLogSizes();
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        original.setPerson(ALICE, editedAlice); // John and Jane is the current wedding
+        storage.saveAddressBook(original);
+
+        List<Long> newLogSizes = getLogSizes();
+        int grownLogs = 0;
+        for (int i = 0; i < logSizes.size(); i++) {
+            long growth = newLogSizes.get(i) - logSizes.get(i);
+            if (growth != 0) {
+                grownLogs++;
+                assertTrue(growth < 512);
+            }
+        }
+        assertEquals(1, grownLogs);
+        assertEquals(indexSize, Files.size(LogStructuredAddressBookStorage.getIndexPath(filePath)));
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_guestRenamedAndDeleted_orderKept() throws Exception {
+        new LogStructuredAddressBookStorage(filePath).saveAddressBook(original);
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath);
+        storage.readAddressBook();
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        original.deletePerson(BENSON);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readGuest_afterRead_onlyThatGuestRead() throws Exception {
+        new LogStructuredAddressBookStorage(filePath).saveAddressBook(original);
+
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath);
+        assertFalse(storage.readGuest("John and Jane", ALICE.getName().fullName).isPresent());
+        storage.readAddressBook();
+        assertEquals(BENSON, storage.readGuest("john and jane", BENSON.getName().fullName).get());
+        assertFalse(storage.readGuest("Jack and Jill", BENSON.getName().fullName).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndOverwritten() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        for (Path log : listLogs()) {
+            Files.write(log, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        }
+
+        storage = new LogStructuredAddressBookStorage(filePath);
+        assertEquals(original, readBack(storage));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_damagedRecordBeforeOthers_throwsAndKeepsLog() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        Path log = getLargestLog();
+        byte[] contents = Files.readAllBytes(log);
+        contents[LogRecord.OVERHEAD + 1] ^= 1; // A bit in the first record, which many records follow
+        Files.write(log, contents);
+
+        assertThrows(DataLoadingException.class, () -> new LogStructuredAddressBookStorage(filePath)
+                .readAddressBook());
+        assertArrayEquals(contents, Files.readAllBytes(log));
+    }
+
+    @Test
+    public void readAddressBook_damagedLastRecord_ignored() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        Person edited = new PersonBuilder(ALICE).withPhone("91234567").build();
+        AddressBook unedited = readBack(new LogStructuredAddressBookStorage(filePath));
+        original.setPerson(original.getPersonList().get(0), edited);
+        storage.saveAddressBook(original);
+        Path log = getLargestLog();
+        byte[] contents = Files.readAllBytes(log);
+        contents[contents.length - 1] ^= 1; // A bit in the record of the edit, the last one in the log
+        Files.write(log, contents);
+
+        assertEquals(unedited, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_appendCutShort_noneOfItApplied() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        AddressBook unedited = readBack(new LogStructuredAddressBookStorage(filePath));
+        Path log = getLargestLog();
+        long savedSize = Files.size(log);
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        original.deleteTableById(2); // Benson is seated at table 2
+        storage.saveAddressBook(original);
+        byte[] contents = Files.readAllBytes(log);
+
+        for (int length = (int) savedSize; length < contents.length; length++) {
+            Files.write(log, Arrays.copyOf(contents, length));
+            assertEquals(unedited, readBack(new LogStructuredAddressBookStorage(filePath)));
+        }
+        Files.write(log, contents);
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void mergeLogs_replacedRecords_onlyLatestKept() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 5; i++) {
+            Person edited = new PersonBuilder(ALICE).withPhone("9123456" + i).build();
+            original.setPerson(original.getPersonList().get(0), edited);
+            storage.saveAddressBook(original);
+        }
+        List<Path> logsBefore = listLogs();
+        long sizeBefore = getLogSizes().stream().mapToLong(Long::longValue).sum();
+
+        LogStructuredAddressBookStorage mergingStorage = new LogStructuredAddressBookStorage(filePath, 0);
+        mergingStorage.readAddressBook();
+        mergingStorage.mergeLogs();
+
+        List<Path> logsAfter = listLogs();
+        assertEquals(2, logsAfter.size());
+        assertFalse(logsAfter.containsAll(logsBefore));
+        assertTrue(getLogSizes().stream().mapToLong(Long::longValue).sum() < sizeBefore);
+        assertEquals(original, readBack(new LogStructuredAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_noIndex_jsonDataFileRead() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath);
+        AddressBook readBack = readBack(storage);
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(LogStructuredAddressBookStorage.getIndexPath(filePath)));
+    }
+
+    private List<Path> listLogs() throws Exception {
+        try (Stream<Path> files = Files.list(LogStructuredAddressBookStorage.getStoreFolderPath(filePath))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("wedding-")).sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the log of the wedding with the most guests.
+     */
+    private Path getLargestLog() throws Exception {
+        Path largest = null;
+        for (Path log : listLogs()) {
+            if (largest == null || Files.size(log) > Files.size(largest)) {
+                largest = log;
+            }
+        }
+        return largest;
+    }
+
+    private List<Long> getLogSizes() throws Exception {
+        List<Long> sizes = new ArrayList<>();
+        for (Path log : listLogs()) {
+            sizes.add(Files.size(log));
+        }
+        return sizes;
+    }
+
+    private static AddressBook readBack(AddressBookStorage storage) throws Exception {
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.setCurrentWeddingByName("John and Jane");
+        return readBack;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.wedding.Wedding;
+
+public class ParallelWeddingReaderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void join_weddingsFinishOutOfOrder_returnedInSubmittedOrder() throws Exception {
+        CountDownLatch secondRead = new CountDownLatch(1);
+        ParallelWeddingReader reader = new ParallelWeddingReader(pool);
+        reader.submit(() -> {
+            await(secondRead);
+            return new Wedding("First");
+        });
+        reader.submit(() -> {
+            secondRead.countDown();
+            return new Wedding("Second");
+        });
+
+        List<Wedding> weddings = reader.join();
+        assertEquals("First", weddings.get(0).getName());
+        assertEquals("Second", weddings.get(1).getName());
+    }
+
+    @Test
+    public void join_severalInvalidWeddings_firstErrorInOrderReported() {
+        CountDownLatch laterFailure = new CountDownLatch(1);
+        ParallelWeddingReader reader = new ParallelWeddingReader(pool);
+        reader.submit(() -> new Wedding("Valid"));
+        reader.submit(() -> {
+            await(laterFailure);
+            throw new IllegalValueException("first");
+        });
+        reader.submit(() -> {
+            laterFailure.countDown();
+            throw new IOException("second");
+        });
+
+        assertThrows(IllegalValueException.class, "first", reader::join);
+    }
+
+    @Test
+    public void join_duplicateWeddings_throwsIllegalValueException() {
+        ParallelWeddingReader reader = new ParallelWeddingReader(pool);
+        reader.submit(() -> new Wedding("Same"));
+        reader.submit(() -> new Wedding("same"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING,
+                reader::join);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            throw new IllegalStateException(ie);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        original = getTypicalAddressBook2();
+        original.addWedding(new Wedding("Jack and Jill"));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        List<JsonShardEntry> shards = readManifest();
+        assertEquals(2, shards.size());
+        assertEquals("John and Jane", shards.get(0).getName());
+        assertEquals(3, shards.get(0).getGuests());
+        assertEquals(3, shards.get(0).getTables());
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compactFormIsJsonAsRead() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Wedding> readWeddings = new ShardedAddressBookStorage(filePath).readAddressBook().get()
+                .getWeddingList();
+        for (int i = 0; i < readWeddings.size(); i++) {
+            JsonCompactWedding compactForm = (JsonCompactWedding) readWeddings.get(i).getCompactForm().get();
+            assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedWedding(original.getWeddingList().get(i))),
+                    StandardCharsets.UTF_8.decode(compactForm.getJson()).toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_oneWeddingChanged_onlyItsShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        List<JsonShardEntry> before = readManifest();
+
+        original.addPerson(HOON); // John and Jane is the current wedding
+        storage.saveAddressBook(original);
+        List<JsonShardEntry> after = readManifest();
+
+        assertNotEquals(before.get(0).getFile(), after.get(0).getFile());
+        assertEquals(before.get(1).getFile(), after.get(1).getFile());
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardFolderPath(filePath)
+                .resolve(before.get(0).getFile())));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadWithoutChanges_nothingRewritten() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        List<JsonShardEntry> before = readManifest();
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+
+        List<JsonShardEntry> after = readManifest();
+        assertEquals(before.get(0).getFile(), after.get(0).getFile());
+        assertEquals(before.get(1).getFile(), after.get(1).getFile());
+    }
+
+    @Test
+    public void readAddressBook_singleDataFile_migratedOnSave() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getManifestPath(filePath)));
+        assertEquals(2, readManifest().size());
+    }
+
+    @Test
+    public void readAddressBook_damagedShard_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        Path shard = ShardedAddressBookStorage.getShardFolderPath(filePath).resolve(readManifest().get(1).getFile());
+        Files.writeString(shard, Files.readString(shard).replace("Jack", "Jake"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private List<JsonShardEntry> readManifest() throws Exception {
+        return JsonUtil.readJsonFile(ShardedAddressBookStorage.getManifestPath(filePath), JsonShardManifest.class)
+                .get().getShards();
+    }
+}
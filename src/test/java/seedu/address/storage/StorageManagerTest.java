@@ -2,9 +2,19 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.wedding.Wedding;
 
 public class StorageManagerTest {
 
@@ -65,4 +76,89 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_inBackground_quickSavesMerged() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.getAndIncrement() == 0) {
+                    firstSaveStarted.countDown();
+                    try {
+                        releaseFirstSave.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook2();
+        backgroundStorage.saveAddressBook(original);
+        firstSaveStarted.await();
+        for (int i = 0; i < 20; i++) {
+            backgroundStorage.saveAddressBook(original);
+        }
+        original.addPerson(HOON);
+        backgroundStorage.saveAddressBook(original);
+        releaseFirstSave.countDown();
+        backgroundStorage.flushAddressBook();
+
+        assertEquals(2, saveCount.get());
+        assertEquals(original, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_inBackground_copiesOnlyChangedWeddings() throws Exception {
+        List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saved.add(addressBook);
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook2();
+        original.addWedding(new Wedding("Jack and Jill"));
+        backgroundStorage.saveAddressBook(original);
+        backgroundStorage.flushAddressBook();
+        original.addPerson(HOON);
+        backgroundStorage.saveAddressBook(original);
+        backgroundStorage.flushAddressBook();
+
+        assertEquals(2, saved.size());
+        assertNotSame(saved.get(0).getWeddingList().get(0), saved.get(1).getWeddingList().get(0));
+        assertSame(saved.get(0).getWeddingList().get(1), saved.get(1).getWeddingList().get(1));
+        assertNotSame(original.getWeddingList().get(1), saved.get(1).getWeddingList().get(1));
+        assertEquals(original, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundSaveFails_failureReported() throws Exception {
+        IOException failure = new IOException("Disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        backgroundStorage.setSaveFailureHandler(reported::set);
+
+        backgroundStorage.saveAddressBook(getTypicalAddressBook2());
+        assertThrows(IOException.class, "Disk full", backgroundStorage::flushAddressBook);
+        assertSame(failure, reported.get());
+        backgroundStorage.flushAddressBook(); // Each failure is thrown only once
+    }
+
 }
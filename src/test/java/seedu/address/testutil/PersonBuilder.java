@@ -34,7 +34,6 @@ public class PersonBuilder {
     private Set<Tag> tags;
     private DietaryRestriction dietaryRestriction;
     private Rsvp rsvp;
-    private int tableId;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -45,7 +44,6 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
-        tableId = -1;
         rsvp = new Rsvp(Rsvp.Status.YES);
         dietaryRestriction = DEFAULT_DIETARY_RESTRICTIONS;
     }
@@ -59,7 +57,6 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
-        tableId = personToCopy.getTableId();
         dietaryRestriction = personToCopy.getDietaryRestriction();
         rsvp = personToCopy.getRsvp();
     }
@@ -103,14 +100,6 @@ public class PersonBuilder {
         this.email = new Email(email);
         return this;
     }
-    /**
-     * Sets the {@code Table} of the {@code Person} that we are building.
-     */
-    public PersonBuilder withTable(int tableId, int capacity) {
-        this.tableId = tableId;
-        return this;
-    }
-
     /**
      * Sets the {@code DietaryRestriction} of the {@code Person} that we are building.
      */
@@ -129,7 +118,6 @@ public class PersonBuilder {
      * Builds the person object.
      */
     public Person build() {
-        return new Person(name, phone, email, address, tags, dietaryRestriction, rsvp,
-            tableId);
+        return new Person(name, phone, email, address, tags, dietaryRestriction, rsvp);
     }
 }
@@ -32,32 +32,32 @@ public class TypicalPersons {
         .build();
     public static final Person BENSON = new PersonBuilder().withName("Benson Meier")
         .withAddress("311, Clementi Ave 2, #02-25").withEmail("johnd@example.com")
-        .withPhone("98765432").withTable(2, 5).withRsvp(Rsvp.Status.NO)
+        .withPhone("98765432").withRsvp(Rsvp.Status.NO)
         .withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGETARIAN)
         .build();
     public static final Person CARL = new PersonBuilder().withName("Carl Kurz").withPhone("95352563")
-        .withEmail("heinz@example.com").withAddress("wall street").withTable(3, 5)
+        .withEmail("heinz@example.com").withAddress("wall street")
         .withRsvp(Rsvp.Status.YES).withDietaryRestriction(DietaryRestriction.TypicalRestriction.NONE).build();
     public static final Person DANIEL = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
-        .withEmail("cornelia@example.com").withAddress("10th street").withTable(4, 5)
+        .withEmail("cornelia@example.com").withAddress("10th street")
         .withRsvp(Rsvp.Status.YES).withDietaryRestriction(DietaryRestriction.TypicalRestriction.HALAL)
         .build();
     public static final Person ELLE = new PersonBuilder().withName("Elle Meyer").withPhone("9482224")
-        .withEmail("werner@example.com").withAddress("michegan ave").withTable(5, 5)
+        .withEmail("werner@example.com").withAddress("michegan ave")
         .withRsvp(Rsvp.Status.NO).withDietaryRestriction(DietaryRestriction.TypicalRestriction.NONE).build();
     public static final Person FIONA = new PersonBuilder().withName("Fiona Kunz").withPhone("9482427")
-        .withEmail("lydia@example.com").withAddress("little tokyo").withTable(6, 5)
+        .withEmail("lydia@example.com").withAddress("little tokyo")
         .withRsvp(Rsvp.Status.YES).withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN).build();
     public static final Person GEORGE = new PersonBuilder().withName("George Best").withPhone("9482442")
-        .withEmail("anna@example.com").withAddress("4th street").withTable(7, 5)
+        .withEmail("anna@example.com").withAddress("4th street")
         .withRsvp(Rsvp.Status.YES).withDietaryRestriction(DietaryRestriction.TypicalRestriction.NONE).build();
 
     // Manually added
     public static final Person HOON = new PersonBuilder().withName("Hoon Meier").withPhone("8482424")
-        .withEmail("stefan@example.com").withAddress("little india").withTable(8, 5)
+        .withEmail("stefan@example.com").withAddress("little india")
         .withRsvp(Rsvp.Status.NO).withDietaryRestriction(DietaryRestriction.TypicalRestriction.NONE).build();
     public static final Person IDA = new PersonBuilder().withName("Ida Mueller").withPhone("8482131")
-        .withEmail("hans@example.com").withAddress("chicago ave").withTable(9, 5)
+        .withEmail("hans@example.com").withAddress("chicago ave")
         .withRsvp(Rsvp.Status.YES).withDietaryRestriction(DietaryRestriction.TypicalRestriction.NONE).build();
 
     // Manually added - Person's details found in {@code CommandTestUtil}
@@ -101,12 +101,10 @@ public class TypicalPersons {
         ab.addTable(t3);
 
         ab.addPerson(ALICE);
-        Person newBenson = new Person(BENSON, -1);
-        Person newCarl = new Person(CARL, -1);
-        ab.addPerson(newBenson);
-        ab.addPerson(newCarl);
-        ab.addPersonToTableById(newBenson, 2);
-        ab.addPersonToTableById(newCarl, 3);
+        ab.addPerson(BENSON);
+        ab.addPerson(CARL);
+        ab.addPersonToTableById(BENSON, 2);
+        ab.addPersonToTableById(CARL, 3);
 
         //ab.addWedding(new Wedding("Jack and Jill"));
         //ab.setCurrentWeddingByName("Jack and Jill");